@@ -0,0 +1,112 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Microbenchmarks de los exportadores CSV, Excel y PDF sobre un {@link ListExportDataProvider}.
+ * <p>
+ * Cada exportación se escribe en un flujo que descarta los bytes, de modo que se mide la generación
+ * del archivo y no el almacenamiento. Se parametriza el número de filas, de columnas y el tipo de
+ * los valores. Con {@code -prof gc} JMH reporta además la tasa de asignación por operación
+ * ({@code gc.alloc.rate.norm}).
+ * </p>
+ *
+ * <p>Ejemplo: {@code mvn -Pbenchmarks verify -Djmh.args="ExportBenchmark.csv -p rows=10000 -prof gc"}</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ExportBenchmark {
+
+    /**
+     * Tipo de los valores de las celdas.
+     */
+    public enum ValueType {
+        STRING, NUMBER, DATE, MIXED
+    }
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    @Param({"5", "20"})
+    private int columns;
+
+    @Param({"STRING", "NUMBER", "DATE", "MIXED"})
+    private ValueType valueType;
+
+    private ExportDataProvider<Object[]> provider;
+
+    private final CsvExporter<Object[]> csvExporter = new CsvExporter<>();
+    private final ExcelExporter<Object[]> excelExporter = new ExcelExporter<>();
+    private final PdfExporter<Object[]> pdfExporter = new PdfExporter<>(true, 100);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> headers = new ArrayList<>(columns);
+        List<Function<Object[], Object>> extractors = new ArrayList<>(columns);
+        for (int col = 0; col < columns; col++) {
+            int index = col;
+            headers.add("Columna " + col);
+            extractors.add(row -> row[index]);
+        }
+
+        List<Object[]> data = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            Object[] values = new Object[columns];
+            for (int col = 0; col < columns; col++) {
+                values[col] = value(row, col);
+            }
+            data.add(values);
+        }
+        provider = new ListExportDataProvider<>(data, headers, extractors);
+    }
+
+    @Benchmark
+    public void csv() throws Exception {
+        csvExporter.exportTo(provider, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void excel() throws Exception {
+        excelExporter.exportTo(provider, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void pdf() throws Exception {
+        pdfExporter.exportTo(provider, OutputStream.nullOutputStream());
+    }
+
+    private Object value(int row, int col) {
+        ValueType type = valueType == ValueType.MIXED ? ValueType.values()[col % 3] : valueType;
+        return switch (type) {
+            case STRING -> "Candidato " + row + ", columna \"" + col + "\"";
+            case NUMBER -> col % 2 == 0 ? Long.valueOf((long) row * 31 + col) : (Object) Double.valueOf(row / 7.0 + col);
+            case DATE -> col % 2 == 0
+                    ? LocalDate.of(2020, 1, 1).plusDays(row % 3650)
+                    : (Object) LocalDateTime.of(2020, 1, 1, 8, 0).plusMinutes(row);
+            case MIXED -> throw new IllegalStateException();
+        };
+    }
+}
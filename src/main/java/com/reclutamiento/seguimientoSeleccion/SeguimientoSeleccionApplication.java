@@ -1,6 +1,14 @@
 package com.reclutamiento.seguimientoSeleccion;
 
+import com.reclutamiento.seguimientoSeleccion.config.AsyncExecutorProperties;
+import com.reclutamiento.seguimientoSeleccion.config.CandidatoImportProperties;
+import com.reclutamiento.seguimientoSeleccion.config.ExcelExportProperties;
 import com.reclutamiento.seguimientoSeleccion.config.ExportLimitsProperties;
+import com.reclutamiento.seguimientoSeleccion.config.ExportSchedulerProperties;
+import com.reclutamiento.seguimientoSeleccion.config.ExportStorageProperties;
+import com.reclutamiento.seguimientoSeleccion.config.I18nProperties;
+import com.reclutamiento.seguimientoSeleccion.config.PdfExportProperties;
+import com.reclutamiento.seguimientoSeleccion.config.ReplicaDataSourceProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
@@ -14,7 +22,9 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  * Esta clase se encarga de iniciar la aplicación mediante {@link SpringApplication#run(Class, String...)}.
  * Además, habilita:
  * <ul>
- *     <li>La carga de propiedades externas mediante {@link ExportLimitsProperties}.</li>
+ *     <li>La carga de propiedades externas mediante {@link ExportLimitsProperties}, {@link ExportStorageProperties},
+ *     {@link ExcelExportProperties}, {@link PdfExportProperties}, {@link I18nProperties}, {@link AsyncExecutorProperties},
+ *     {@link ExportSchedulerProperties}, {@link ReplicaDataSourceProperties} y {@link CandidatoImportProperties}.</li>
  *     <li>La auditoría de entidades JPA con {@link EnableJpaAuditing}, usando un proveedor de auditor personalizado.</li>
  * </ul>
  * </p>
@@ -23,7 +33,17 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  * @see com.reclutamiento.seguimientoSeleccion.config.AuditConfig
  */
 @SpringBootApplication
-@EnableConfigurationProperties(ExportLimitsProperties.class)
+@EnableConfigurationProperties({
+		ExportLimitsProperties.class,
+		ExportStorageProperties.class,
+		ExcelExportProperties.class,
+		PdfExportProperties.class,
+		I18nProperties.class,
+		AsyncExecutorProperties.class,
+		ExportSchedulerProperties.class,
+		ReplicaDataSourceProperties.class,
+		CandidatoImportProperties.class
+})
 @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
 public class SeguimientoSeleccionApplication {
 
@@ -3,20 +3,34 @@ package com.reclutamiento.seguimientoSeleccion.config;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.lang.NonNull;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.lang.reflect.Method;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Configuración para habilitar y personalizar la ejecución asíncrona en la aplicación.
  * <p>
- * Esta clase define un {@link ThreadPoolTaskExecutor} como ejecutor de tareas
- * asíncronas y proporciona un manejador para excepciones no capturadas en métodos @Async.
+ * Esta clase define el ejecutor de tareas asíncronas y proporciona un manejador para
+ * excepciones no capturadas en métodos @Async.
+ * </p>
+ *
+ * <p>
+ * El modelo de ejecución sigue a {@code spring.threads.virtual.enabled}, la misma propiedad con la que
+ * Spring Boot atiende las peticiones de Tomcat en hilos virtuales. Activa y sobre Java 21 o superior,
+ * las tareas se ejecutan en hilos virtuales con un límite de concurrencia que protege el pool de
+ * conexiones; en otro caso se usa un {@link ThreadPoolTaskExecutor}.
  * </p>
  */
 @Configuration
@@ -28,19 +42,93 @@ public class AsyncConfig {
     /**
      * Define el bean {@code taskExecutor} utilizado por Spring para ejecutar métodos anotados con {@code @Async}.
      *
-     * @return un {@link Executor} basado en {@link ThreadPoolTaskExecutor} con parámetros configurados.
+     * @param properties  propiedades del ejecutor asíncrono
+     * @param environment entorno de Spring, usado para saber si los hilos virtuales están activos
+     * @return un {@link SimpleAsyncTaskExecutor} con hilos virtuales y límite de concurrencia, o un
+     * {@link ThreadPoolTaskExecutor} con parámetros configurados.
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(AsyncExecutorProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(properties.getVirtualConcurrencyLimit());
+            logger.info("Ejecutor @Async con hilos virtuales y hasta {} tareas concurrentes",
+                    properties.getVirtualConcurrencyLimit());
+            return executor;
+        }
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            logger.warn("Los hilos virtuales requieren Java 21 o superior (actual: {}); se usa un pool de hilos de plataforma",
+                    Runtime.version().feature());
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5); // Número mínimo de hilos activos
-        executor.setMaxPoolSize(10); // Número máximo de hilos permitidos
-        executor.setQueueCapacity(100); // Capacidad de la cola de tareas antes de crear nuevos hilos
+        executor.setCorePoolSize(properties.getCorePoolSize()); // Número mínimo de hilos activos
+        executor.setMaxPoolSize(properties.getMaxPoolSize()); // Número máximo de hilos permitidos
+        executor.setQueueCapacity(properties.getQueueCapacity()); // Capacidad de la cola de tareas antes de crear nuevos hilos
         executor.setThreadNamePrefix("Async-"); // Prefijo de nombre para los hilos
         executor.initialize();
         return executor;
     }
 
+    /**
+     * Define el ejecutor de los trabajos del planificador de exportaciones.
+     * <p>
+     * Es independiente de {@code taskExecutor} y tiene tantos hilos como exportaciones admiten entre
+     * todos los carriles ({@code export.scheduler.max-concurrent.*}), así que los límites por formato son
+     * los únicos que acotan la concurrencia: un trabajo que sale de la cola de su carril nunca espera un
+     * hilo ni se rechaza. Con hilos virtuales no se aplica un límite propio por el mismo motivo, y el
+     * hilo que termina un trabajo puede despachar el siguiente sin bloquearse.
+     * </p>
+     *
+     * @param properties  propiedades de planificación con los máximos por formato
+     * @param environment entorno de Spring, usado para saber si los hilos virtuales están activos
+     * @return un {@link SimpleAsyncTaskExecutor} con hilos virtuales, o un {@link ThreadPoolTaskExecutor}
+     * con tantos hilos como la suma de los máximos por formato.
+     */
+    @Bean(name = "exportJobExecutor")
+    public Executor exportJobExecutor(ExportSchedulerProperties properties, Environment environment) {
+        int threads = properties.getMaxConcurrent().getTotal();
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Export-");
+            executor.setVirtualThreads(true);
+            logger.info("Ejecutor de exportaciones con hilos virtuales y hasta {} trabajos concurrentes", threads);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("Export-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Define el pool donde se leen en paralelo los bloques de datos de las exportaciones Excel.
+     * Spring lo detiene al cerrar el contexto.
+     *
+     * @param properties propiedades de exportación Excel con el nivel de paralelismo
+     * @return un {@link ForkJoinPool} dimensionado según {@code export.excel.parallelism}.
+     */
+    @Bean(name = "excelExportExecutor")
+    public ExecutorService excelExportExecutor(ExcelExportProperties properties) {
+        return new ForkJoinPool(properties.getParallelism());
+    }
+
+    /**
+     * Define el pool donde corren los formatos de una exportación combinada, uno por hilo.
+     * No tiene límite de hilos porque los formatos de una misma exportación esperan a que la lectura
+     * les entregue datos y deben ejecutarse a la vez; la concurrencia ya la acota el planificador de
+     * exportaciones. Spring lo detiene al cerrar el contexto.
+     *
+     * @return un pool de hilos que se crean bajo demanda y se liberan tras un minuto sin uso.
+     */
+    @Bean(name = "exportSinkExecutor")
+    public ExecutorService exportSinkExecutor() {
+        return Executors.newCachedThreadPool(new CustomizableThreadFactory("ExportSink-"));
+    }
+
     /**
      * Define el manejador global para excepciones no capturadas en métodos asíncronos.
      *
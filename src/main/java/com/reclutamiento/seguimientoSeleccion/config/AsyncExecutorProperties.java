@@ -0,0 +1,62 @@
+package com.reclutamiento.seguimientoSeleccion.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuración del ejecutor de los métodos {@code @Async}. Las exportaciones asíncronas no lo usan: corren
+ * en {@code exportJobExecutor}, dimensionado con {@code export.scheduler.max-concurrent.*}.
+ *
+ * <p>
+ * Estos valores se leen desde el archivo {@code application.properties} o {@code application.yml}
+ * utilizando el prefijo {@code async.executor}.
+ * </p>
+ *
+ * <p>
+ * Con {@code spring.threads.virtual.enabled=true} sobre Java 21 o superior, cada tarea se ejecuta en un
+ * hilo virtual y solo se aplica {@code virtual-concurrency-limit}; en otro caso se usa un pool de hilos
+ * de plataforma dimensionado con el resto de propiedades.
+ * </p>
+ *
+ * <p>Ejemplo en {@code application.properties}:</p>
+ *
+ * <pre>{@code
+ * async.executor.core-pool-size=5
+ * async.executor.max-pool-size=10
+ * async.executor.queue-capacity=100
+ * async.executor.virtual-concurrency-limit=10
+ * }</pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "async.executor")
+public class AsyncExecutorProperties {
+
+    /**
+     * Número mínimo de hilos activos del pool de plataforma. Valor por defecto: 5.
+     */
+    @Min(1)
+    private int corePoolSize = 5;
+
+    /**
+     * Número máximo de hilos del pool de plataforma. Valor por defecto: 10.
+     */
+    @Min(1)
+    private int maxPoolSize = 10;
+
+    /**
+     * Capacidad de la cola de tareas del pool de plataforma antes de crear nuevos hilos. Valor por defecto: 100.
+     */
+    @Min(0)
+    private int queueCapacity = 100;
+
+    /**
+     * Máximo de tareas ejecutándose a la vez en hilos virtuales. Al alcanzarlo, quien envía la tarea espera
+     * a que otra termine. Debe acompañar al tamaño del pool de conexiones si las tareas acceden a la base
+     * de datos. Valor por defecto: 10.
+     */
+    @Min(1)
+    private int virtualConcurrencyLimit = 10;
+}
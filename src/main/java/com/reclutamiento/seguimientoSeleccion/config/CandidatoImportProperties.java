@@ -0,0 +1,39 @@
+package com.reclutamiento.seguimientoSeleccion.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuración de la importación masiva de candidatos.
+ *
+ * <p>
+ * Estos valores se leen desde el archivo {@code application.properties} o {@code application.yml}
+ * utilizando el prefijo {@code import.candidatos}.
+ * </p>
+ *
+ * <p>Ejemplo en {@code application.properties}:</p>
+ *
+ * <pre>{@code
+ * import.candidatos.batch-size=500
+ * import.candidatos.max-errors=1000
+ * }</pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "import.candidatos")
+public class CandidatoImportProperties {
+
+    /**
+     * Filas válidas enviadas a la base de datos en cada lote JDBC. Valor por defecto: 500.
+     */
+    @Min(1)
+    private int batchSize = 500;
+
+    /**
+     * Máximo de errores detallados en la respuesta; los demás solo se cuentan. Valor por defecto: 1000.
+     */
+    @Min(0)
+    private int maxErrors = 1000;
+}
@@ -0,0 +1,52 @@
+package com.reclutamiento.seguimientoSeleccion.config;
+
+import com.reclutamiento.seguimientoSeleccion.export.ColumnWidthMode;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuración de la generación de archivos Excel.
+ *
+ * <p>
+ * Estos valores se leen desde el archivo {@code application.properties} o {@code application.yml}
+ * utilizando el prefijo {@code export.excel}.
+ * </p>
+ *
+ * <p>Ejemplo en {@code application.properties}:</p>
+ *
+ * <pre>{@code
+ * export.excel.parallelism=4
+ * export.excel.column-width=sampled
+ * export.excel.column-width-sample-rows=1000
+ * }</pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "export.excel")
+public class ExcelExportProperties {
+
+    /**
+     * Hilos del pool de exportaciones Excel. Con más de 1, las exportaciones por clave de varias hojas
+     * generan cada hoja en paralelo sobre su propio rango de claves, y las de acceso aleatorio leen hasta
+     * este número de bloques por delante de la escritura. Con 1 (valor por defecto) todo se genera en
+     * el hilo de la exportación.
+     */
+    @Min(1)
+    private int parallelism = 1;
+
+    /**
+     * Modo de ajuste del ancho de columnas: {@code off}, {@code sampled} (valor por defecto) o {@code exact}.
+     */
+    @NotNull
+    private ColumnWidthMode columnWidth = ColumnWidthMode.SAMPLED;
+
+    /**
+     * Filas de cada hoja que se miden para estimar el ancho de las columnas en el modo {@code sampled}.
+     * Valor por defecto: 1000.
+     */
+    @Min(1)
+    private int columnWidthSampleRows = 1000;
+}
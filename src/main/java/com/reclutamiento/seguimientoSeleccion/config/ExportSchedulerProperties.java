@@ -0,0 +1,110 @@
+package com.reclutamiento.seguimientoSeleccion.config;
+
+import com.reclutamiento.seguimientoSeleccion.enums.ExportFormat;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la planificación de exportaciones asíncronas.
+ *
+ * <p>
+ * Cada formato tiene su propio carril con un número máximo de exportaciones simultáneas y una cola
+ * de espera acotada, ordenada de menor a mayor número de filas. Cuando la cola de un formato está
+ * llena, las nuevas solicitudes se rechazan con {@code 429 Too Many Requests}.
+ * </p>
+ *
+ * <p>
+ * Estos valores se leen desde el archivo {@code application.properties} o {@code application.yml}
+ * utilizando el prefijo {@code export.scheduler}.
+ * </p>
+ *
+ * <p>Ejemplo en {@code application.properties}:</p>
+ *
+ * <pre>{@code
+ * export.scheduler.max-concurrent.pdf=2
+ * export.scheduler.max-concurrent.excel=2
+ * export.scheduler.max-concurrent.csv=4
+ * export.scheduler.queue-capacity=50
+ * export.scheduler.retry-after=30s
+ * }</pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "export.scheduler")
+public class ExportSchedulerProperties {
+
+    /**
+     * Exportaciones simultáneas por formato. El ejecutor {@code exportJobExecutor} se dimensiona con su
+     * suma, de modo que todo trabajo que sale de la cola de su formato obtiene un hilo de inmediato.
+     */
+    @Valid
+    private MaxConcurrent maxConcurrent = new MaxConcurrent();
+
+    /**
+     * Exportaciones que pueden esperar en la cola de cada formato. Valor por defecto: 50.
+     */
+    @Min(0)
+    private int queueCapacity = 50;
+
+    /**
+     * Tiempo sugerido al cliente, en la cabecera {@code Retry-After}, antes de reintentar una
+     * exportación rechazada por cola llena. Valor por defecto: 30 segundos.
+     */
+    @NotNull
+    private Duration retryAfter = Duration.ofSeconds(30);
+
+    /**
+     * Número máximo de exportaciones simultáneas por formato.
+     */
+    @Getter
+    @Setter
+    public static class MaxConcurrent {
+
+        /**
+         * Exportaciones PDF simultáneas. Valor por defecto: 2.
+         */
+        @Min(1)
+        private int pdf = 2;
+
+        /**
+         * Exportaciones Excel simultáneas. Valor por defecto: 2.
+         */
+        @Min(1)
+        private int excel = 2;
+
+        /**
+         * Exportaciones CSV simultáneas. Valor por defecto: 4.
+         */
+        @Min(1)
+        private int csv = 4;
+
+        /**
+         * Retorna el número de exportaciones simultáneas permitido según el formato.
+         *
+         * @param format formato de exportación
+         * @return el máximo configurado para el formato especificado
+         */
+        public int getByFormat(ExportFormat format) {
+            return switch (format) {
+                case PDF -> pdf;
+                case EXCEL -> excel;
+                case CSV -> csv;
+            };
+        }
+
+        /**
+         * Retorna el número de exportaciones que pueden ejecutarse a la vez entre todos los formatos.
+         *
+         * @return la suma de los máximos de cada formato
+         */
+        public int getTotal() {
+            return pdf + excel + csv;
+        }
+    }
+}
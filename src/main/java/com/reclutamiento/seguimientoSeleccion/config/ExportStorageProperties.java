@@ -0,0 +1,59 @@
+package com.reclutamiento.seguimientoSeleccion.config;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuración del almacenamiento de resultados de exportaciones asíncronas.
+ *
+ * <p>
+ * Estos valores se leen desde el archivo {@code application.properties} o {@code application.yml}
+ * utilizando el prefijo {@code export.storage}.
+ * </p>
+ *
+ * <p>Ejemplo en {@code application.properties}:</p>
+ *
+ * <pre>{@code
+ * export.storage.type=disk
+ * export.storage.directory=/var/tmp/seguimiento-exports
+ * export.storage.max-size=512MB
+ * export.storage.purge-interval=1m
+ * }</pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "export.storage")
+public class ExportStorageProperties {
+
+    /**
+     * Tipo de almacenamiento: {@code memory} (por defecto) guarda los resultados en el heap,
+     * {@code disk} los escribe en archivos temporales.
+     */
+    @NotBlank
+    private String type = "memory";
+
+    /**
+     * Directorio donde se guardan las exportaciones cuando el tipo es {@code disk}.
+     * Valor por defecto: subdirectorio {@code seguimiento-exports} del directorio temporal del sistema.
+     */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "seguimiento-exports");
+
+    /**
+     * Tamaño total máximo de los resultados almacenados. Al superarse se descartan los resultados
+     * menos usados recientemente; un resultado mayor que este valor se rechaza.
+     * Valor por defecto: 256MB.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    /**
+     * Intervalo con el que se retiran los resultados expirados.
+     * Valor por defecto: 1 minuto.
+     */
+    private Duration purgeInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,37 @@
+package com.reclutamiento.seguimientoSeleccion.config;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Configuración de internacionalización de la aplicación.
+ *
+ * <p>
+ * Estos valores se leen desde el archivo {@code application.properties} o {@code application.yml}
+ * utilizando el prefijo {@code app.i18n}.
+ * </p>
+ *
+ * <p>Ejemplo en {@code application.properties}:</p>
+ *
+ * <pre>{@code
+ * app.i18n.supported-locales=es,en
+ * }</pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.i18n")
+public class I18nProperties {
+
+    /**
+     * Idiomas para los que se precalculan las etiquetas de los enums.
+     * Las peticiones en otros idiomas se resuelven directamente con el {@code MessageSource}.
+     * Valor por defecto: español e inglés.
+     */
+    @NotEmpty
+    private List<Locale> supportedLocales = List.of(Locale.forLanguageTag("es"), Locale.ENGLISH);
+}
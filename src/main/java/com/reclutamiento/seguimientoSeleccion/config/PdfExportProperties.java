@@ -0,0 +1,41 @@
+package com.reclutamiento.seguimientoSeleccion.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuración de la generación de archivos PDF.
+ *
+ * <p>
+ * Estos valores se leen desde el archivo {@code application.properties} o {@code application.yml}
+ * utilizando el prefijo {@code export.pdf}.
+ * </p>
+ *
+ * <p>Ejemplo en {@code application.properties}:</p>
+ *
+ * <pre>{@code
+ * export.pdf.large-table=true
+ * export.pdf.flush-rows=200
+ * }</pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "export.pdf")
+public class PdfExportProperties {
+
+    /**
+     * Si es {@code true}, los datos se escriben en una única tabla incremental que se vacía
+     * periódicamente hacia el flujo de salida, de modo que la memoria usada no crece con el
+     * número de filas. Si es {@code false} (valor por defecto), se genera una tabla por página.
+     */
+    private boolean largeTable = false;
+
+    /**
+     * Número de filas tras el cual la tabla incremental se vacía hacia el documento.
+     * Solo se usa cuando {@code large-table} está activo. Valor por defecto: 100.
+     */
+    @Min(1)
+    private int flushRows = 100;
+}
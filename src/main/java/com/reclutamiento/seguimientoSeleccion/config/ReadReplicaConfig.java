@@ -0,0 +1,96 @@
+package com.reclutamiento.seguimientoSeleccion.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Enrutamiento de las transacciones de solo lectura a una réplica de la base de datos.
+ * <p>
+ * Solo se activa si se define {@code datasource.replica.url}. En ese caso reemplaza el {@link DataSource}
+ * autoconfigurado por un {@link LazyConnectionDataSourceProxy} que obtiene la conexión física recién al
+ * ejecutar la primera sentencia: si la transacción se declaró {@code readOnly = true} la conexión se toma
+ * del pool de la réplica y en otro caso del pool principal. Las consultas de {@code CandidatoService},
+ * del repositorio y de las exportaciones van así a la réplica sin cambios en el código que las invoca.
+ * </p>
+ *
+ * <p>
+ * El pool principal se configura como siempre con {@code spring.datasource.*} y
+ * {@code spring.datasource.hikari.*}; la réplica con {@link ReplicaDataSourceProperties}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "url")
+public class ReadReplicaConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaConfig.class);
+
+    /**
+     * Define el pool de conexiones de la base principal, usado por las transacciones de escritura,
+     * la inicialización del esquema y el código sin transacción.
+     *
+     * @param properties propiedades de {@code spring.datasource}
+     * @return pool Hikari de la base principal
+     */
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Define el pool de conexiones de la réplica, marcado como de solo lectura.
+     *
+     * @param primary propiedades de {@code spring.datasource}, usadas para completar usuario, contraseña y driver
+     * @param replica propiedades de la réplica
+     * @return pool Hikari de la réplica
+     */
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, ReplicaDataSourceProperties replica) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.determineUsername());
+        dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword());
+        dataSource.setDriverClassName(primary.determineDriverClassName());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        logger.info("Transacciones de solo lectura enrutadas a la réplica {}", replica.getUrl());
+        return dataSource;
+    }
+
+    /**
+     * Define el {@link DataSource} de la aplicación, que elige el pool según la transacción en curso.
+     * <p>
+     * Los valores por defecto de autocommit y aislamiento se fijan para que el proxy no abra una conexión
+     * al iniciar solo para averiguarlos.
+     * </p>
+     *
+     * @param primary pool de la base principal
+     * @param replica pool de la réplica
+     * @return proxy que envía las transacciones de solo lectura a la réplica
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replica);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+}
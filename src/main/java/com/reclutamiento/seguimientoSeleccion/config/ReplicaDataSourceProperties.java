@@ -0,0 +1,53 @@
+package com.reclutamiento.seguimientoSeleccion.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuración de la réplica de solo lectura de la base de datos.
+ *
+ * <p>
+ * Estos valores se leen desde el archivo {@code application.properties} o {@code application.yml}
+ * utilizando el prefijo {@code datasource.replica}. La réplica solo se usa si se indica {@code url};
+ * sin ella todas las conexiones van a {@code spring.datasource}.
+ * </p>
+ *
+ * <p>Ejemplo en {@code application.properties}:</p>
+ *
+ * <pre>{@code
+ * datasource.replica.url=jdbc:postgresql://replica:5432/seguimiento
+ * datasource.replica.username=lector
+ * datasource.replica.password=secreto
+ * datasource.replica.maximum-pool-size=10
+ * }</pre>
+ *
+ * @see ReadReplicaConfig
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * URL JDBC de la réplica. Si se omite, no se configura el enrutamiento.
+     */
+    private String url;
+
+    /**
+     * Usuario de la réplica. Si se omite, se usa el de {@code spring.datasource}.
+     */
+    private String username;
+
+    /**
+     * Contraseña de la réplica. Si se omite, se usa la de {@code spring.datasource}.
+     */
+    private String password;
+
+    /**
+     * Tamaño máximo del pool de conexiones de la réplica. Valor por defecto: 10.
+     */
+    @Min(1)
+    private int maximumPoolSize = 10;
+}
@@ -1,26 +1,43 @@
 package com.reclutamiento.seguimientoSeleccion.controller;
 
 import com.reclutamiento.seguimientoSeleccion.dto.*;
+import com.reclutamiento.seguimientoSeleccion.enums.ExportFormat;
+import com.reclutamiento.seguimientoSeleccion.exception.NotFoundException;
+import com.reclutamiento.seguimientoSeleccion.export.ExportCompression;
+import com.reclutamiento.seguimientoSeleccion.export.StreamingExport;
 import com.reclutamiento.seguimientoSeleccion.logging.Loggable;
 import com.reclutamiento.seguimientoSeleccion.service.AsyncExportService;
+import com.reclutamiento.seguimientoSeleccion.service.CandidatoImportService;
 import com.reclutamiento.seguimientoSeleccion.service.CandidatoService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import java.util.concurrent.CompletableFuture;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
 
 /**
  * Controlador REST para la gestión de candidatos en el proceso de selección.
  * <p>
- * Proporciona endpoints para operaciones CRUD, actualizaciones parciales y exportaciones
- * de candidatos, incluyendo exportaciones asíncronas.
+ * Proporciona endpoints para operaciones CRUD, actualizaciones parciales, importación masiva y
+ * exportaciones de candidatos, incluyendo exportaciones asíncronas.
  * </p>
  *
  * @see com.reclutamiento.seguimientoSeleccion.service.CandidatoService
@@ -35,30 +52,83 @@ public class CandidatoController {
 
     private final CandidatoService candidatoService;
     private final AsyncExportService asyncExportService;
+    private final CandidatoImportService candidatoImportService;
 
     /**
      * Constructor con inyección de dependencias.
      *
-     * @param candidatoService    servicio que maneja la lógica de negocio relacionada con candidatos
-     * @param asyncExportService  servicio encargado de la exportación asíncrona de candidatos
+     * @param candidatoService       servicio que maneja la lógica de negocio relacionada con candidatos
+     * @param asyncExportService     servicio encargado de la exportación asíncrona de candidatos
+     * @param candidatoImportService servicio encargado de la importación masiva de candidatos
      */
     @Autowired
-    public CandidatoController(CandidatoService candidatoService, AsyncExportService asyncExportService) {
+    public CandidatoController(CandidatoService candidatoService,
+                               AsyncExportService asyncExportService,
+                               CandidatoImportService candidatoImportService) {
         this.candidatoService = candidatoService;
         this.asyncExportService = asyncExportService;
+        this.candidatoImportService = candidatoImportService;
     }
 
     /**
      * Obtiene una lista paginada de todos los candidatos registrados.
+     * <p>
+     * Con {@code fields} (por ejemplo {@code ?fields=nombre,estado,ciudadResidencia}) se devuelve un listado
+     * ligero que solo lee y serializa esas columnas, además del ID.
+     * </p>
      *
      * @param pageable información de paginación como número de página, tamaño y orden
+     * @param fields   columnas a incluir; si se omite se devuelven los candidatos completos
      * @return respuesta con la lista paginada de candidatos
      */
     @GetMapping
-    public ResponseEntity<PagedResponse<CandidatoResponseDTO>> getAll(Pageable pageable) {
+    public ResponseEntity<PagedResponse<?>> getAll(
+            Pageable pageable,
+            @RequestParam(required = false) List<String> fields) {
+        if (fields != null && !fields.isEmpty()) {
+            return ResponseEntity.ok(candidatoService.getCandidatosResumen(fields, pageable));
+        }
         return ResponseEntity.ok(candidatoService.getAllCandidatos(pageable));
     }
 
+    /**
+     * Busca candidatos por estado, nivel educativo, país y ciudad de residencia, rango de fechas de registro
+     * y rango de edad. Los filtros se reciben como parámetros de consulta y son opcionales.
+     *
+     * @param criteria filtros de búsqueda
+     * @param pageable información de paginación como número de página, tamaño y orden
+     * @return respuesta con la lista paginada de candidatos que cumplen los filtros
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PagedResponse<CandidatoResponseDTO>> search(
+            @Valid CandidatoSearchCriteria criteria,
+            Pageable pageable) {
+        return ResponseEntity.ok(candidatoService.searchCandidatos(criteria, pageable));
+    }
+
+    /**
+     * Busca candidatos por nombre, ciudad o país de forma aproximada (nombres parciales o mal escritos),
+     * ordenados por similitud.
+     * <p>
+     * La paginación es por clave: para la página siguiente se envían {@code nextScore} y {@code nextId}
+     * de la respuesta como {@code afterScore} y {@code afterId}.
+     * </p>
+     *
+     * @param q          texto buscado, entre 3 y 100 caracteres
+     * @param size       tamaño de la página, entre 1 y 100
+     * @param afterScore puntaje del último resultado de la página anterior
+     * @param afterId    ID del último resultado de la página anterior
+     * @return página de candidatos encontrados
+     */
+    @GetMapping("/search/similar")
+    public ResponseEntity<CandidatoMatchPage> searchSimilar(
+            @RequestParam @NotBlank @Size(min = 3, max = 100) String q,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) Float afterScore,
+            @RequestParam(required = false) Long afterId) {
+        return ResponseEntity.ok(candidatoService.searchSimilarCandidatos(q, size, afterScore, afterId));
+    }
+
     /**
      * Obtiene los detalles de un candidato específico por su ID.
      *
@@ -81,6 +151,34 @@ public class CandidatoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(candidatoService.saveCandidato(dto));
     }
 
+    /**
+     * Importa candidatos de forma masiva desde un archivo CSV o Excel ({@code .xlsx}).
+     * <p>
+     * La primera fila contiene los encabezados con los nombres de los campos de {@link CandidatoCreateDTO}.
+     * Las filas inválidas o duplicadas no detienen la importación y se detallan en la respuesta.
+     * </p>
+     *
+     * @param file archivo con los candidatos
+     * @return resultado con los contadores y los errores por fila
+     * @throws IOException si falla la lectura del archivo
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CandidatoImportResultDTO> importFile(@RequestParam("file") MultipartFile file) throws IOException {
+        return ResponseEntity.ok(candidatoImportService.importarArchivo(file));
+    }
+
+    /**
+     * Importa candidatos de forma masiva desde un arreglo JSON con la misma forma que el cuerpo de la creación.
+     *
+     * @param body arreglo JSON de candidatos, leído elemento por elemento
+     * @return resultado con los contadores y los errores por fila
+     * @throws IOException si falla la lectura del cuerpo
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CandidatoImportResultDTO> importJson(InputStream body) throws IOException {
+        return ResponseEntity.ok(candidatoImportService.importarJson(body));
+    }
+
     /**
      * Actualiza completamente los datos de un candidato existente por su ID.
      *
@@ -123,48 +221,160 @@ public class CandidatoController {
     /**
      * Inicia una exportación asíncrona de candidatos en el formato especificado.
      * <p>
-     * Si {@code exportAll} es {@code true}, se exportan todos los registros disponibles.
-     * En caso contrario, se exporta únicamente la página solicitada.
+     * Siempre se exportan todos los candidatos. {@code exportAll} solo elige cómo se leen: con
+     * {@code true} mediante un cursor del servidor y con {@code false} por bloques con paginación por
+     * clave; {@code page} y {@code size} no acotan el resultado.
+     * </p>
+     * <p>
+     * La exportación queda en la cola de su formato; la cabecera {@code Location} apunta al estado
+     * del trabajo. Si la cola está llena se responde {@code 429} con la cabecera {@code Retry-After}.
+     * </p>
+     * <p>
+     * Con {@code formats} se generan varios formatos con una sola lectura de los datos, entregados como un ZIP.
      * </p>
      *
      * @param requestDTO DTO con los parámetros de exportación, incluyendo formato, paginación y tipo de exportación
      * @return respuesta con estado 202 Accepted y el ID de la exportación iniciada
      */
     @PostMapping("/export/async")
-    public CompletableFuture<ResponseEntity<String>> exportAsync(
-            @Valid @RequestBody ExportRequestDTO requestDTO) {
+    public ResponseEntity<String> exportAsync(@Valid @RequestBody ExportRequestDTO requestDTO) {
 
         Pageable pageable = requestDTO.isExportAll()
                 ? Pageable.unpaged()
                 : PageRequest.of(requestDTO.getPage(), requestDTO.getSize());
 
-        return candidatoService.exportarCandidatosAsync(requestDTO.getFormat(), pageable)
-                .thenApply(id -> ResponseEntity.accepted()
-                        .body("Exportación en proceso. ID: " + id));
+        String id = candidatoService.exportarCandidatosAsync(
+                requestDTO.getRequestedFormats(), requestDTO.getCompression(), pageable);
+        URI statusUri = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{exportId}/status")
+                .buildAndExpand(id)
+                .toUri();
+
+        return ResponseEntity.accepted()
+                .location(statusUri)
+                .body("Exportación en proceso. ID: " + id);
     }
 
     /**
-     * Devuelve el resultado de una exportación asíncrona previamente iniciada.
+     * Devuelve el estado de una exportación asíncrona: posición en la cola mientras espera,
+     * filas procesadas y porcentaje de avance mientras se genera, o el error si falló.
+     *
+     * @param exportId identificador único de la exportación
+     * @return estado actual de la exportación
+     * @throws NotFoundException si la exportación no existe o su estado ya expiró
+     */
+    @GetMapping("/export/async/{exportId}/status")
+    public ResponseEntity<ExportJobStatusDTO> getExportStatus(@PathVariable String exportId) {
+        return ResponseEntity.ok(asyncExportService.getExportStatus(exportId));
+    }
+
+    /**
+     * Cancela una exportación asíncrona en espera o en ejecución.
      * <p>
-     * Si la exportación aún no ha sido completada o no existe, devuelve un mensaje informativo.
-     * De lo contrario, retorna el archivo exportado como adjunto.
+     * Una exportación en ejecución deja de leer datos antes de su siguiente bloque y su archivo
+     * se descarta. Si la exportación ya había terminado, no se modifica.
      * </p>
      *
      * @param exportId identificador único de la exportación
-     * @return archivo exportado o mensaje de estado
+     * @return estado de la exportación tras la solicitud ({@code CANCELLED} si se canceló)
+     * @throws NotFoundException si la exportación no existe o su estado ya expiró
+     */
+    @DeleteMapping("/export/async/{exportId}")
+    public ResponseEntity<ExportJobStatusDTO> cancelExport(@PathVariable String exportId) {
+        return ResponseEntity.ok(asyncExportService.cancelExport(exportId));
+    }
+
+    /**
+     * Exporta todos los candidatos escribiendo el archivo directamente en la respuesta HTTP.
+     * <p>
+     * Las filas se leen por bloques y se codifican a medida que se envían, por lo que el uso
+     * de memoria se mantiene constante sin importar el número de registros exportados.
+     * Solo admite formatos con soporte de streaming (por ejemplo, CSV). Si el cliente acepta gzip,
+     * el contenido de texto se comprime al vuelo ({@code Content-Encoding: gzip}).
+     * </p>
+     *
+     * @param format         formato de exportación solicitado
+     * @param acceptEncoding cabecera {@code Accept-Encoding} del cliente
+     * @return cuerpo de respuesta en streaming con el archivo exportado como adjunto
+     */
+    @GetMapping("/export/stream")
+    public ResponseEntity<StreamingResponseBody> exportStream(
+            @RequestParam ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        StreamingExport export = candidatoService.exportarCandidatosStream(format);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + export.filename() + "\"")
+                .header(HttpHeaders.CONTENT_TYPE, export.contentType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (ExportCompression.shouldGzipResponse(export.contentType(), acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(gzipped(export));
+        }
+        return response.body(export::writeTo);
+    }
+
+    /**
+     * Devuelve el resultado de una exportación asíncrona previamente iniciada.
+     * <p>
+     * El archivo se envía en streaming desde el almacenamiento de exportaciones; si está en disco,
+     * se transfiere sin cargarlo completo en memoria. Un archivo de texto sin comprimir se envía con
+     * {@code Content-Encoding: gzip} cuando el cliente lo acepta.
+     * </p>
+     * <p>
+     * El archivo se abre antes de enviar las cabeceras, de modo que una descarga en curso se completa
+     * aunque el resultado expire o se descarte mientras tanto.
+     * </p>
+     *
+     * @param exportId       identificador único de la exportación
+     * @param acceptEncoding cabecera {@code Accept-Encoding} del cliente
+     * @return archivo exportado como adjunto
+     * @throws NotFoundException si la exportación no existe, expiró o aún está en proceso
+     * @throws IOException       si no se puede abrir el archivo exportado
      */
     @GetMapping("/export/async/{exportId}")
-    public ResponseEntity<?> getExportAsync(@PathVariable String exportId) {
+    public ResponseEntity<StreamingResponseBody> getExportAsync(
+            @PathVariable String exportId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding)
+            throws IOException {
         ExportResult result = asyncExportService.getExportResult(exportId);
 
         if (result == null) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body("Exportación no encontrada o aún en proceso.");
+            throw new NotFoundException("Exportación no encontrada o aún en proceso.");
         }
 
-        return ResponseEntity.ok()
+        ExportResult.Content content;
+        try {
+            content = result.open();
+        } catch (NoSuchFileException e) {
+            throw new NotFoundException("Exportación no encontrada o aún en proceso.");
+        }
+        StreamingResponseBody body = out -> {
+            try (content) {
+                content.writeTo(out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + result.filename() + "\"")
                 .header(HttpHeaders.CONTENT_TYPE, result.contentType())
-                .body(result.data());
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (ExportCompression.shouldGzipResponse(result.contentType(), acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(gzipped(new StreamingExport(result.filename(), result.contentType(), body::writeTo)));
+        }
+        return response.contentLength(result.size())
+                .body(body);
+    }
+
+    /**
+     * Cuerpo de respuesta que comprime con gzip lo que escribe la exportación.
+     */
+    private static StreamingResponseBody gzipped(StreamingExport export) {
+        StreamingExport gzip = new StreamingExport(export.filename(), export.contentType(),
+                ExportCompression.GZIP.wrap(export.filename(), export.writer()));
+        return gzip::writeTo;
     }
 }
@@ -0,0 +1,47 @@
+package com.reclutamiento.seguimientoSeleccion.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de una importación masiva de candidatos.
+ * <p>
+ * Los contadores cubren todas las filas leídas. La lista de errores se limita a
+ * {@code import.candidatos.max-errors} entradas; si se alcanzó el límite, {@code errorsTruncated} es {@code true}.
+ * </p>
+ */
+@Data
+public class CandidatoImportResultDTO {
+
+    /**
+     * Filas leídas, sin contar encabezados ni filas vacías.
+     */
+    private int totalRows;
+
+    /**
+     * Candidatos insertados.
+     */
+    private int imported;
+
+    /**
+     * Filas omitidas porque ya existe un candidato con el mismo correo o documento.
+     */
+    private int duplicates;
+
+    /**
+     * Filas rechazadas por datos inválidos o por un error al insertarlas.
+     */
+    private int failed;
+
+    /**
+     * Detalle de las filas duplicadas o rechazadas.
+     */
+    private List<ImportRowError> errors = new ArrayList<>();
+
+    /**
+     * Indica si se omitieron errores por superar el límite de la lista.
+     */
+    private boolean errorsTruncated;
+}
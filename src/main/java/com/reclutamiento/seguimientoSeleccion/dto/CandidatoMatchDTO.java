@@ -0,0 +1,45 @@
+package com.reclutamiento.seguimientoSeleccion.dto;
+
+import lombok.Data;
+
+/**
+ * DTO de un candidato encontrado por la búsqueda aproximada por nombre, ciudad o país.
+ */
+@Data
+public class CandidatoMatchDTO {
+
+    /**
+     * Identificador único del candidato.
+     */
+    private Long id;
+
+    /**
+     * Nombre completo del candidato.
+     */
+    private String nombre;
+
+    /**
+     * País de residencia del candidato.
+     */
+    private String paisResidencia;
+
+    /**
+     * Ciudad de residencia del candidato.
+     */
+    private String ciudadResidencia;
+
+    /**
+     * Estado actual del candidato dentro del proceso de selección.
+     */
+    private String estado;
+
+    /**
+     * Etiqueta localizada del estado.
+     */
+    private String estadoLabel;
+
+    /**
+     * Puntaje de similitud con el texto buscado, entre 0 y 1. Los resultados se ordenan de mayor a menor.
+     */
+    private Float score;
+}
@@ -0,0 +1,25 @@
+package com.reclutamiento.seguimientoSeleccion.dto;
+
+import java.util.List;
+
+/**
+ * Página de resultados de la búsqueda aproximada de candidatos, paginada por clave.
+ * <p>
+ * Para obtener la página siguiente se envían {@code nextScore} y {@code nextId} como
+ * {@code afterScore} y {@code afterId}. No se calcula el total de coincidencias.
+ * </p>
+ *
+ * @param content   candidatos de la página, de mayor a menor puntaje y luego por ID
+ * @param size      tamaño de página solicitado
+ * @param last      {@code true} si no hay más resultados
+ * @param nextScore puntaje del último candidato de la página, o {@code null} si es la última
+ * @param nextId    ID del último candidato de la página, o {@code null} si es la última
+ */
+public record CandidatoMatchPage(
+        List<CandidatoMatchDTO> content,
+        int size,
+        boolean last,
+        Float nextScore,
+        Long nextId
+) {
+}
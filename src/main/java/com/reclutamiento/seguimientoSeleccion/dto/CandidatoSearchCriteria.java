@@ -0,0 +1,95 @@
+package com.reclutamiento.seguimientoSeleccion.dto;
+
+import com.reclutamiento.seguimientoSeleccion.enums.EstadoCandidato;
+import com.reclutamiento.seguimientoSeleccion.enums.NivelEducativo;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filtros de la búsqueda de candidatos, recibidos como parámetros de consulta.
+ * <p>
+ * Todos los filtros son opcionales y se combinan con {@code AND}. Los filtros con varios valores
+ * ({@code estado}, {@code nivelEducativo}) aceptan cualquiera de ellos. País y ciudad se comparan
+ * de forma exacta para aprovechar el índice compuesto {@code (paisResidencia, ciudadResidencia)}.
+ * </p>
+ *
+ * <p>Ejemplo: {@code /api/candidatos/search?estado=ACTIVO&pais=Colombia&edadMin=25&edadMax=35}</p>
+ */
+@Data
+public class CandidatoSearchCriteria {
+
+    /**
+     * Estados del candidato a incluir.
+     */
+    private List<EstadoCandidato> estado;
+
+    /**
+     * Niveles educativos a incluir.
+     */
+    private List<NivelEducativo> nivelEducativo;
+
+    /**
+     * País de residencia.
+     */
+    @Size(max = 50, message = "El país no debe superar los 50 caracteres")
+    private String pais;
+
+    /**
+     * Ciudad de residencia.
+     */
+    @Size(max = 50, message = "La ciudad no debe superar los 50 caracteres")
+    private String ciudad;
+
+    /**
+     * Fecha de registro mínima, inclusive (formato {@code yyyy-MM-dd}).
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fechaRegistroDesde;
+
+    /**
+     * Fecha de registro máxima, inclusive (formato {@code yyyy-MM-dd}).
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fechaRegistroHasta;
+
+    /**
+     * Edad mínima en años cumplidos, inclusive.
+     */
+    @Min(value = 0, message = "La edad mínima debe ser mayor o igual a 0")
+    @Max(value = 120, message = "La edad mínima no debe superar los 120 años")
+    private Integer edadMin;
+
+    /**
+     * Edad máxima en años cumplidos, inclusive.
+     */
+    @Min(value = 0, message = "La edad máxima debe ser mayor o igual a 0")
+    @Max(value = 120, message = "La edad máxima no debe superar los 120 años")
+    private Integer edadMax;
+
+    /**
+     * Validación: el rango de fechas de registro no puede estar invertido.
+     *
+     * @return {@code true} si alguno de los extremos falta o {@code desde <= hasta}
+     */
+    @AssertTrue(message = "La fecha de registro inicial no puede ser posterior a la final")
+    public boolean isFechaRegistroRangoValido() {
+        return fechaRegistroDesde == null || fechaRegistroHasta == null || !fechaRegistroDesde.isAfter(fechaRegistroHasta);
+    }
+
+    /**
+     * Validación: el rango de edades no puede estar invertido.
+     *
+     * @return {@code true} si alguno de los extremos falta o {@code edadMin <= edadMax}
+     */
+    @AssertTrue(message = "La edad mínima no puede ser mayor que la edad máxima")
+    public boolean isEdadRangoValido() {
+        return edadMin == null || edadMax == null || edadMin <= edadMax;
+    }
+}
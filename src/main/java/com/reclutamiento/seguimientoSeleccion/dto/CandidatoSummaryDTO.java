@@ -0,0 +1,55 @@
+package com.reclutamiento.seguimientoSeleccion.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.reclutamiento.seguimientoSeleccion.logging.Sensitive;
+import lombok.Data;
+
+/**
+ * DTO del listado ligero de candidatos ({@code GET /api/candidatos?fields=...}).
+ * <p>
+ * Tiene los mismos nombres y formatos que {@link CandidatoResponseDTO}, sin los campos de auditoría,
+ * pero solo se completan las columnas solicitadas; las demás quedan en {@code null} y no se serializan.
+ * </p>
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CandidatoSummaryDTO {
+
+    private Long id;
+
+    private String nombre;
+
+    @Sensitive
+    private String email;
+
+    @Sensitive
+    private String telefono;
+
+    private String tipoDocumento;
+
+    private String tipoDocumentoLabel;
+
+    private String documentoIdentidad;
+
+    private String paisResidencia;
+
+    private String ciudadResidencia;
+
+    private String fechaNacimiento;
+
+    private String genero;
+
+    private String generoLabel;
+
+    private String nivelEducativo;
+
+    private String nivelEducativoLabel;
+
+    private String linkedinUrl;
+
+    private String estado;
+
+    private String estadoLabel;
+
+    private String fechaRegistro;
+}
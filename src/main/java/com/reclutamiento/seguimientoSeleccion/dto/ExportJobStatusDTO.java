@@ -0,0 +1,70 @@
+package com.reclutamiento.seguimientoSeleccion.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.reclutamiento.seguimientoSeleccion.enums.ExportFormat;
+import com.reclutamiento.seguimientoSeleccion.enums.ExportJobStatus;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * DTO con el estado de una exportación asíncrona: posición en la cola mientras espera
+ * y avance mientras se genera.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ExportJobStatusDTO {
+
+    /**
+     * Identificador de la exportación.
+     */
+    private String id;
+
+    /**
+     * Formato de exportación.
+     */
+    private ExportFormat format;
+
+    /**
+     * Estado actual del trabajo: {@code QUEUED}, {@code RUNNING}, {@code DONE}, {@code FAILED} o {@code CANCELLED}.
+     */
+    private ExportJobStatus status;
+
+    /**
+     * Posición en la cola de su formato (desde 1). Solo se informa mientras el trabajo espera.
+     */
+    private Integer queuePosition;
+
+    /**
+     * Número de filas a exportar, estimado al encolar el trabajo.
+     */
+    private long totalRows;
+
+    /**
+     * Filas leídas hasta el momento.
+     */
+    private long processedRows;
+
+    /**
+     * Porcentaje de avance (0 a 100).
+     */
+    private int progress;
+
+    /**
+     * Fecha y hora en que se recibió la solicitud.
+     */
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant submittedAt;
+
+    /**
+     * Fecha y hora en que terminó el trabajo, si ya terminó.
+     */
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant finishedAt;
+
+    /**
+     * Mensaje de error si la exportación falló.
+     */
+    private String error;
+}
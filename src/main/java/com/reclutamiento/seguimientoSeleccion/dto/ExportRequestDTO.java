@@ -1,20 +1,34 @@
 package com.reclutamiento.seguimientoSeleccion.dto;
 
 import com.reclutamiento.seguimientoSeleccion.enums.ExportFormat;
+import com.reclutamiento.seguimientoSeleccion.export.ExportCompression;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
 /**
  * DTO para representar una solicitud de exportación de datos.
  * <p>
- * Permite especificar el formato de exportación y si se desea exportar todos los datos
- * o solo una página específica.
+ * Permite especificar el formato de exportación y la forma de leer los datos. La exportación
+ * siempre cubre todos los registros.
  * </p>
  *
- * <p>Si {@code exportAll} es {@code false}, entonces los campos {@code page} y {@code size} deben ser válidos.</p>
+ * <p>Si {@code exportAll} es {@code false}, entonces los campos {@code page} y {@code size} deben ser válidos,
+ * aunque no acotan el resultado.</p>
+ *
+ * <p>
+ * Para obtener varios formatos de los mismos datos se indica {@code formats}; los datos se leen una sola
+ * vez y el resultado es un ZIP con un archivo por formato. Debe indicarse {@code format}, {@code formats}
+ * o ambos.
+ * </p>
  *
  * @see ExportFormat
  */
@@ -25,12 +39,24 @@ public class ExportRequestDTO {
     /**
      * Formato en el que se desea realizar la exportación (PDF, EXCEL o CSV).
      */
-    @NotNull(message = "El formato de exportación es obligatorio.")
     private ExportFormat format;
 
     /**
-     * Indica si se deben exportar todos los registros.
-     * Si es {@code true}, se ignorarán los parámetros de paginación.
+     * Formatos adicionales a generar con una sola lectura de los datos. Si en total se pide más de
+     * un formato, el resultado es un ZIP con un archivo por formato.
+     */
+    private List<ExportFormat> formats;
+
+    /**
+     * Compresión del archivo generado: {@code NONE} (por defecto), {@code GZIP} o {@code ZIP}.
+     * Se ignora cuando se piden varios formatos, cuyo resultado siempre es un ZIP.
+     */
+    @NotNull(message = "La compresión no puede ser nula.")
+    private ExportCompression compression = ExportCompression.NONE;
+
+    /**
+     * Con {@code true} los registros se leen con un cursor del servidor; con {@code false}, por bloques
+     * con paginación por clave. En ambos casos se exportan todos los registros.
      */
     private boolean exportAll = false;
 
@@ -55,4 +81,35 @@ public class ExportRequestDTO {
     public boolean isValidPagination() {
         return exportAll || size > 0;
     }
+
+    /**
+     * Validación: debe solicitarse al menos un formato, sin valores nulos.
+     *
+     * @return {@code true} si hay al menos un formato y ninguno es nulo.
+     */
+    @JsonIgnore
+    @AssertTrue(message = "El formato de exportación es obligatorio.")
+    public boolean isFormatPresent() {
+        if (formats != null && formats.contains(null)) {
+            return false;
+        }
+        return format != null || (formats != null && !formats.isEmpty());
+    }
+
+    /**
+     * Devuelve todos los formatos solicitados, sin repetir, uniendo {@code format} y {@code formats}.
+     *
+     * @return formatos solicitados en el orden de {@link ExportFormat}
+     */
+    @JsonIgnore
+    public Set<ExportFormat> getRequestedFormats() {
+        Set<ExportFormat> requested = EnumSet.noneOf(ExportFormat.class);
+        if (format != null) {
+            requested.add(format);
+        }
+        if (formats != null) {
+            formats.stream().filter(Objects::nonNull).forEach(requested::add);
+        }
+        return requested;
+    }
 }
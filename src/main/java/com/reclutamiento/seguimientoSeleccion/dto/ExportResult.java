@@ -1,8 +1,153 @@
 package com.reclutamiento.seguimientoSeleccion.dto;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
 /**
  * DTO que encapsula el resultado de una operación de exportación.
- * Contiene los datos binarios exportados, el nombre del archivo y el tipo de contenido (MIME).
+ * Contiene el contenido exportado, el nombre del archivo y el tipo de contenido (MIME).
+ * <p>
+ * El contenido puede residir en memoria ({@code chunks}) o en un archivo en disco ({@code file});
+ * exactamente uno de los dos es distinto de {@code null}. En memoria el contenido se guarda como una
+ * secuencia de bloques, tal como se escribió, sin copiarlo a un único arreglo; el último bloque puede
+ * tener espacio sin usar más allá de {@code size}.
+ * </p>
+ *
+ * @param chunks      bloques con el contenido exportado en memoria, o {@code null} si está respaldado por archivo
+ * @param file        archivo en disco con el contenido exportado, o {@code null} si está en memoria
+ * @param filename    nombre sugerido para el archivo descargado
+ * @param contentType tipo MIME del archivo
+ * @param size        tamaño del contenido en bytes
  */
-public record ExportResult(byte[] data, String filename, String contentType) {
+public record ExportResult(List<byte[]> chunks, Path file, String filename, String contentType, long size) {
+
+    /**
+     * Crea un resultado cuyo contenido reside en memoria.
+     *
+     * @param data        contenido exportado
+     * @param filename    nombre sugerido para el archivo descargado
+     * @param contentType tipo MIME del archivo
+     */
+    public ExportResult(byte[] data, String filename, String contentType) {
+        this(List.of(data), null, filename, contentType, data.length);
+    }
+
+    /**
+     * Crea un resultado en memoria a partir de los bloques en que se escribió.
+     *
+     * @param chunks      bloques con el contenido, en orden
+     * @param size        número de bytes válidos en total
+     * @param filename    nombre sugerido para el archivo descargado
+     * @param contentType tipo MIME del archivo
+     * @return resultado en memoria
+     */
+    public static ExportResult ofChunks(List<byte[]> chunks, long size, String filename, String contentType) {
+        return new ExportResult(List.copyOf(chunks), null, filename, contentType, size);
+    }
+
+    /**
+     * Crea un resultado cuyo contenido reside en un archivo en disco.
+     *
+     * @param file        archivo con el contenido exportado
+     * @param size        tamaño del archivo en bytes
+     * @param filename    nombre sugerido para el archivo descargado
+     * @param contentType tipo MIME del archivo
+     * @return resultado respaldado por archivo
+     */
+    public static ExportResult ofFile(Path file, long size, String filename, String contentType) {
+        return new ExportResult(null, file, filename, contentType, size);
+    }
+
+    /**
+     * Indica si el contenido está almacenado en disco.
+     *
+     * @return {@code true} si el resultado está respaldado por un archivo
+     */
+    public boolean isFileBacked() {
+        return file != null;
+    }
+
+    /**
+     * Escribe el contenido exportado en el flujo indicado.
+     * <p>
+     * Si el resultado está en disco, se transfiere con {@link FileChannel#transferTo}, sin cargar
+     * el archivo completo en el heap.
+     * </p>
+     *
+     * @param out flujo de salida (por ejemplo, el cuerpo de la respuesta HTTP)
+     * @throws IOException si falla la lectura o la escritura
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        try (Content content = open()) {
+            content.writeTo(out);
+        }
+    }
+
+    /**
+     * Abre el contenido para escribirlo más tarde, por ejemplo después de enviar las cabeceras de una
+     * respuesta. Si el resultado está en disco, el archivo se abre en este momento: aunque el
+     * almacenamiento lo retire y lo borre mientras se envía, el canal abierto sigue leyendo el contenido
+     * completo.
+     *
+     * @return contenido abierto, que debe cerrarse tras escribirlo
+     * @throws java.nio.file.NoSuchFileException si el archivo ya fue retirado del almacenamiento
+     * @throws IOException                       si no se puede abrir el archivo
+     */
+    public Content open() throws IOException {
+        if (file == null) {
+            return new Content() {
+                @Override
+                public void writeTo(OutputStream out) throws IOException {
+                    long remaining = size;
+                    for (byte[] chunk : chunks) {
+                        int length = (int) Math.min(chunk.length, remaining);
+                        out.write(chunk, 0, length);
+                        remaining -= length;
+                    }
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        return new Content() {
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = 0;
+                long length = channel.size();
+                while (position < length) {
+                    position += channel.transferTo(position, length - position, target);
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+    }
+
+    /**
+     * Contenido de un resultado ya abierto, listo para escribirse una vez.
+     */
+    public interface Content extends Closeable {
+
+        /**
+         * Escribe el contenido en el flujo indicado.
+         *
+         * @param out flujo de salida
+         * @throws IOException si falla la lectura o la escritura
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
 }
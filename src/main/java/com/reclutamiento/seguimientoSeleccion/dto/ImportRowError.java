@@ -0,0 +1,14 @@
+package com.reclutamiento.seguimientoSeleccion.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Error de una fila durante la importación masiva de candidatos.
+ *
+ * @param row     número de fila en el archivo (base 1, incluye la fila de encabezados) o posición en el arreglo JSON
+ * @param field   campo con el error, o {@code null} si el error afecta a toda la fila
+ * @param message descripción del error
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportRowError(int row, String field, String message) {
+}
@@ -4,7 +4,8 @@ import lombok.Getter;
 
 /**
  * Enum que representa los formatos disponibles para la exportación de datos.
- * Cada formato incluye una clave de mensaje asociada para su localización (i18n).
+ * Cada formato incluye una clave de mensaje asociada para su localización (i18n) y su costo
+ * relativo de generación.
  */
 @Getter
 public enum ExportFormat implements LocalizableEnum {
@@ -12,17 +13,17 @@ public enum ExportFormat implements LocalizableEnum {
     /**
      * Formato PDF (Portable Document Format).
      */
-    PDF("exportFormat.pdf"),
+    PDF("exportFormat.pdf", 3),
 
     /**
      * Formato Excel (archivo de hoja de cálculo).
      */
-    EXCEL("exportFormat.excel"),
+    EXCEL("exportFormat.excel", 2),
 
     /**
      * Formato CSV (Comma-Separated Values).
      */
-    CSV("exportFormat.csv");
+    CSV("exportFormat.csv", 1);
 
     /**
      * Clave de mensaje usada para la localización del formato.
@@ -30,12 +31,20 @@ public enum ExportFormat implements LocalizableEnum {
     private final String messageKey;
 
     /**
-     * Constructor del enum que asigna la clave de mensaje.
+     * Costo relativo de generar el formato: a mayor valor, más lenta y pesada es la exportación.
+     * Una exportación combinada ocupa el carril del formato más costoso de los solicitados.
+     */
+    private final int cost;
+
+    /**
+     * Constructor del enum que asigna la clave de mensaje y el costo.
      *
      * @param messageKey clave utilizada para la localización del formato
+     * @param cost       costo relativo de generación
      */
-    ExportFormat(String messageKey) {
+    ExportFormat(String messageKey, int cost) {
         this.messageKey = messageKey;
+        this.cost = cost;
     }
 
     @Override
@@ -0,0 +1,39 @@
+package com.reclutamiento.seguimientoSeleccion.enums;
+
+/**
+ * Estados por los que pasa un trabajo de exportación asíncrona.
+ */
+public enum ExportJobStatus {
+
+    /**
+     * En cola, esperando un turno en el carril de su formato.
+     */
+    QUEUED,
+
+    /**
+     * En ejecución.
+     */
+    RUNNING,
+
+    /**
+     * Terminado; el archivo está disponible en el almacenamiento de exportaciones.
+     */
+    DONE,
+
+    /**
+     * Terminado con error.
+     */
+    FAILED,
+
+    /**
+     * Cancelado a pedido del cliente, antes de empezar o durante la generación.
+     */
+    CANCELLED;
+
+    /**
+     * @return {@code true} si el trabajo ya no va a cambiar de estado
+     */
+    public boolean isFinished() {
+        return this == DONE || this == FAILED || this == CANCELLED;
+    }
+}
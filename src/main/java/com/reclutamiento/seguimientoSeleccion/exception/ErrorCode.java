@@ -43,7 +43,12 @@ public enum ErrorCode {
     /**
      * Se excedió el límite permitido para la exportación.
      */
-    EXPORT_LIMIT_EXCEEDED("EXPORT_001", "error.export_limit_exceeded");
+    EXPORT_LIMIT_EXCEEDED("EXPORT_001", "error.export_limit_exceeded"),
+
+    /**
+     * La cola de exportaciones del formato está llena; se debe reintentar más tarde.
+     */
+    EXPORT_QUEUE_FULL("EXPORT_002", "error.export_queue_full");
 
     private final String code;
     private final String messageKey;
@@ -0,0 +1,31 @@
+package com.reclutamiento.seguimientoSeleccion.exception;
+
+import com.reclutamiento.seguimientoSeleccion.enums.ExportFormat;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción lanzada cuando la cola de exportaciones de un formato está llena y
+ * la solicitud debe reintentarse más tarde.
+ */
+@Getter
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class ExportQueueFullException extends RuntimeException {
+
+    private final ExportFormat format;
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructor sin mensaje concreto, para permitir internacionalización desde el handler.
+     *
+     * @param format            formato cuya cola está llena
+     * @param retryAfterSeconds segundos sugeridos antes de reintentar
+     */
+    public ExportQueueFullException(ExportFormat format, long retryAfterSeconds) {
+        // Mensaje técnico solo para fines de desarrollo/log
+        super("Export queue full");
+        this.format = format;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
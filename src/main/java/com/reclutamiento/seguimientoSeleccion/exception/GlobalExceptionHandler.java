@@ -5,6 +5,7 @@ import com.reclutamiento.seguimientoSeleccion.dto.ValidationErrorDetail;
 import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -200,4 +201,42 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Maneja las excepciones de tipo {@link ExportQueueFullException}, lanzadas cuando la cola de
+     * exportaciones del formato solicitado está llena.
+     * <p>
+     * Responde {@code 429 Too Many Requests} con la cabecera {@code Retry-After}, que indica en segundos
+     * cuándo conviene reintentar la solicitud.
+     *
+     * @param ex      la excepción lanzada con el formato y el tiempo sugerido de reintento.
+     * @param request la solicitud web actual, usada para obtener la localización (locale) del cliente.
+     * @return una {@link ResponseEntity} con un objeto {@link ErrorResponse} que describe el error,
+     *         con código de estado {@code 429 Too Many Requests}.
+     */
+    @ExceptionHandler(ExportQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleExportQueueFull(ExportQueueFullException ex, WebRequest request) {
+        Locale locale = request.getLocale();
+
+        String title = messageSource.getMessage(
+                ErrorCode.EXPORT_QUEUE_FULL.getMessageKey() + ".title", null, locale);
+
+        String detailMessage = messageSource.getMessage(
+                ErrorCode.EXPORT_QUEUE_FULL.getMessageKey() + ".detail",
+                new Object[]{ex.getFormat(), ex.getRetryAfterSeconds()},
+                locale);
+
+        ErrorResponse error = ErrorResponse.fromMessages(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                title,
+                List.of(detailMessage),
+                request.getDescription(false).replace("uri=", "")
+        );
+        error.setErrorCode(ErrorCode.EXPORT_QUEUE_FULL.getCode());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
 }
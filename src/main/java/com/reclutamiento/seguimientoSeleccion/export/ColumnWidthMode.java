@@ -0,0 +1,26 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+/**
+ * Modo de ajuste del ancho de columnas en las exportaciones Excel.
+ * <p>
+ * El ancho se estima a partir de la longitud en caracteres de los valores escritos,
+ * sin medir fuentes, y se asigna una sola vez al terminar cada hoja.
+ * </p>
+ */
+public enum ColumnWidthMode {
+
+    /**
+     * No se ajustan las columnas; se usa el ancho por defecto de Excel.
+     */
+    OFF,
+
+    /**
+     * El ancho se estima con las primeras filas de cada hoja (ver {@code export.excel.column-width-sample-rows}).
+     */
+    SAMPLED,
+
+    /**
+     * El ancho se estima con todas las filas de cada hoja.
+     */
+    EXACT
+}
@@ -0,0 +1,117 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Registra la longitud máxima de los valores de cada columna de una hoja mientras se escriben
+ * las filas, para asignar el ancho de las columnas al final sin recorrer de nuevo la hoja.
+ * <p>
+ * Cada instancia pertenece a una sola hoja y no es segura para uso concurrente.
+ * </p>
+ */
+final class ColumnWidthTracker {
+
+    /**
+     * Ancho máximo de columna admitido por Excel, en caracteres.
+     */
+    private static final int MAX_WIDTH_CHARS = 255;
+
+    /**
+     * Margen añadido al valor más largo para que el texto no quede pegado al borde.
+     */
+    private static final int PADDING_CHARS = 2;
+
+    private static final int DATE_CHARS = "yyyy-mm-dd".length();
+    private static final int DATE_TIME_CHARS = "yyyy-mm-dd HH:mm:ss".length();
+    private static final int BOOLEAN_CHARS = "FALSE".length();
+
+    private final int[] maxLengths;
+    private final long rowsToMeasure;
+    private long measuredRows;
+
+    /**
+     * Crea el registro para una hoja.
+     *
+     * @param headers    encabezados de la hoja; su longitud cuenta como mínimo de cada columna
+     * @param mode       modo de ajuste de columnas
+     * @param sampleRows filas medidas por hoja en el modo {@link ColumnWidthMode#SAMPLED}
+     */
+    ColumnWidthTracker(List<String> headers, ColumnWidthMode mode, int sampleRows) {
+        this.maxLengths = new int[headers.size()];
+        this.rowsToMeasure = switch (mode) {
+            case OFF -> 0;
+            case SAMPLED -> sampleRows;
+            case EXACT -> Long.MAX_VALUE;
+        };
+        if (mode != ColumnWidthMode.OFF) {
+            for (int i = 0; i < headers.size(); i++) {
+                maxLengths[i] = headers.get(i).length();
+            }
+        }
+    }
+
+    /**
+     * Indica si la fila siguiente debe medirse.
+     *
+     * @return {@code true} mientras no se haya alcanzado el número de filas a medir
+     */
+    boolean isMeasuring() {
+        return measuredRows < rowsToMeasure;
+    }
+
+    /**
+     * Registra el valor escrito en una columna de la fila actual.
+     *
+     * @param column índice de la columna
+     * @param value  valor escrito en la celda
+     */
+    void observe(int column, Object value) {
+        int length = displayLength(value);
+        if (length > maxLengths[column]) {
+            maxLengths[column] = length;
+        }
+    }
+
+    /**
+     * Marca el final de una fila medida.
+     */
+    void endRow() {
+        measuredRows++;
+    }
+
+    /**
+     * Asigna a la hoja el ancho estimado de cada columna. No hace nada si el ajuste está desactivado.
+     *
+     * @param sheet hoja a la que pertenece este registro
+     */
+    void applyTo(Sheet sheet) {
+        if (rowsToMeasure == 0) {
+            return;
+        }
+        for (int i = 0; i < maxLengths.length; i++) {
+            int chars = Math.min(maxLengths[i] + PADDING_CHARS, MAX_WIDTH_CHARS);
+            sheet.setColumnWidth(i, chars * 256);
+        }
+    }
+
+    private static int displayLength(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof LocalDate) {
+            return DATE_CHARS;
+        }
+        if (value instanceof LocalDateTime || value instanceof Date) {
+            return DATE_TIME_CHARS;
+        }
+        if (value instanceof Boolean) {
+            return BOOLEAN_CHARS;
+        }
+        return value.toString().length();
+    }
+}
@@ -0,0 +1,39 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Flujo de salida que cuenta los bytes escritos en el flujo subyacente.
+ */
+public class CountingOutputStream extends FilterOutputStream {
+
+    private long count;
+
+    /**
+     * @param out flujo al que se delegan las escrituras
+     */
+    public CountingOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        count += len;
+    }
+
+    /**
+     * @return número de bytes escritos hasta el momento
+     */
+    public long getCount() {
+        return count;
+    }
+}
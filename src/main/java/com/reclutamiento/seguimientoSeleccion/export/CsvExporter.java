@@ -1,27 +1,48 @@
 package com.reclutamiento.seguimientoSeleccion.export;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
 /**
  * Exportador de datos a CSV simple.
  * Usa comas como separador, pone comillas dobles para valores con comas o comillas.
+ * <p>
+ * Las filas se codifican directamente sobre un {@link Writer} con búfer, de modo que
+ * la exportación puede enviarse en streaming a la respuesta HTTP sin acumularla en memoria.
+ * </p>
  *
  * @param <T> Tipo de dato a exportar.
  */
-public class CsvExporter<T> implements ExportStrategy<T> {
+public class CsvExporter<T> implements StreamingExportStrategy<T> {
 
     private static final int PAGE_SIZE = 500;
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     @Override
     public byte[] export(ExportDataProvider<T> provider) throws Exception {
-        StringBuilder sb = new StringBuilder();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        exportTo(provider, baos);
+        return baos.toByteArray();
+    }
+
+    @Override
+    public void exportTo(ExportDataProvider<T> provider, OutputStream out) throws Exception {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
 
         // Agregar encabezados
         List<String> headers = provider.getHeaders();
-        sb.append(String.join(",", headers)).append("\n");
+        for (int i = 0; i < headers.size(); i++) {
+            if (i > 0) writer.write(',');
+            writer.write(headers.get(i));
+        }
+        writer.write('\n');
 
         int offset = 0;
         int total = provider.getTotalCount();
@@ -31,31 +52,34 @@ public class CsvExporter<T> implements ExportStrategy<T> {
             List<T> data = provider.getData(offset, Math.min(PAGE_SIZE, total - offset));
 
             for (T item : data) {
-                List<String> values = new ArrayList<>();
-                for (Function<T, Object> extractor : extractors) {
-                    Object val = extractor.apply(item);
-                    values.add(escapeCsv(val == null ? "" : val.toString()));
+                for (int i = 0; i < extractors.size(); i++) {
+                    if (i > 0) writer.write(',');
+                    Object val = extractors.get(i).apply(item);
+                    writeEscaped(writer, val == null ? "" : val.toString());
                 }
-                sb.append(String.join(",", values)).append("\n");
+                writer.write('\n');
             }
 
             offset += PAGE_SIZE;
         }
 
-        return sb.toString().getBytes(StandardCharsets.UTF_8);
+        // Se vacía el búfer sin cerrar el flujo, que pertenece a quien invoca
+        writer.flush();
     }
 
     /**
-     * Escapa comillas dobles y pone el valor entre comillas si contiene comas o comillas.
+     * Escribe el valor escapando comillas dobles y lo pone entre comillas si contiene
+     * comas, comillas o saltos de línea.
      */
-    private String escapeCsv(String value) {
-        if (value.contains("\"")) {
-            value = value.replace("\"", "\"\"");
-        }
-        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
-            value = "\"" + value + "\"";
+    private void writeEscaped(Writer writer, String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
         }
-        return value;
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
     }
 
     @Override
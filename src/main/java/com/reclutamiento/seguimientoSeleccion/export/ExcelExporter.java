@@ -4,11 +4,19 @@ import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 /**
@@ -17,69 +25,276 @@ import java.util.function.Function;
  * Detecta tipos comunes (String, Number, Boolean, LocalDate, LocalDateTime, Date)
  * y aplica formatos apropiados en celdas.
  *
+ * <p>
+ * Con un paralelismo mayor que 1, una exportación de varias hojas cuyo proveedor admite
+ * {@link ExportDataProvider#split(int) división} (por ejemplo, por rangos de claves) genera cada
+ * hoja en paralelo en el ejecutor configurado: cada tramo de datos tiene su propio proveedor y su
+ * propia hoja, creada de antemano desde el hilo que llama. {@link SXSSFWorkbook} no es seguro para
+ * uso concurrente, pero cada hoja escribe sus filas en su propio archivo temporal y solo consulta del
+ * libro los estilos, que se crean antes de empezar; por eso cada hoja se escribe desde un único hilo
+ * y el libro se ensambla y guarda al terminar todas.
+ * </p>
+ *
+ * <p>
+ * Si el proveedor no se divide pero tiene acceso aleatorio, los bloques de 500 filas se leen en
+ * paralelo con como máximo {@code parallelism} bloques por delante de la escritura, que se hace
+ * desde un solo hilo. Los proveedores secuenciales (sobre un cursor) se leen en el hilo que llama.
+ * </p>
+ *
+ * <p>
+ * El ancho de las columnas se estima según el {@link ColumnWidthMode} configurado, registrando la
+ * longitud de los valores mientras se escriben las filas, en lugar de medir fuentes al final.
+ * </p>
+ *
  * @param <T> Tipo de objeto a exportar.
  */
-public class ExcelExporter<T> implements ExportStrategy<T> {
+public class ExcelExporter<T> implements StreamingExportStrategy<T> {
 
     private static final int PAGE_SIZE = 500;
     private static final int MAX_ROWS_PER_SHEET = 50000;
 
+    /**
+     * Filas de datos por hoja: la primera fila es el encabezado.
+     */
+    private static final int DATA_ROWS_PER_SHEET = MAX_ROWS_PER_SHEET - 1;
+
+    private static final int DEFAULT_SAMPLE_ROWS = 1000;
+
+    private final int parallelism;
+    private final ExecutorService executor;
+    private final ColumnWidthMode columnWidthMode;
+    private final int columnWidthSampleRows;
+
+    /**
+     * Crea un exportador que genera las hojas de forma secuencial y estima el ancho
+     * de las columnas por muestreo.
+     */
+    public ExcelExporter() {
+        this(1, null, ColumnWidthMode.SAMPLED, DEFAULT_SAMPLE_ROWS);
+    }
+
+    /**
+     * Crea un exportador que puede leer varios bloques de datos en paralelo.
+     *
+     * @param parallelism           número máximo de bloques leídos a la vez; 1 desactiva la generación en paralelo
+     * @param executor              ejecutor donde se generan las hojas o se leen los bloques, o {@code null}
+     *                              para el modo secuencial
+     * @param columnWidthMode       modo de ajuste del ancho de las columnas
+     * @param columnWidthSampleRows filas medidas por hoja en el modo {@link ColumnWidthMode#SAMPLED}
+     */
+    public ExcelExporter(int parallelism, ExecutorService executor,
+                         ColumnWidthMode columnWidthMode, int columnWidthSampleRows) {
+        this.parallelism = Math.max(1, parallelism);
+        this.executor = executor;
+        this.columnWidthMode = columnWidthMode;
+        this.columnWidthSampleRows = columnWidthSampleRows;
+    }
+
     @Override
     public byte[] export(ExportDataProvider<T> provider) throws Exception {
-        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100)) { // Mantiene solo 100 filas en memoria
-            List<String> headers = provider.getHeaders();
-            List<Function<T, Object>> extractors = provider.getValueExtractors();
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            exportTo(provider, baos);
+            return baos.toByteArray();
+        }
+    }
 
+    @Override
+    public void exportTo(ExportDataProvider<T> provider, OutputStream out) throws Exception {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100)) { // Mantiene solo 100 filas en memoria
             int total = provider.getTotalCount();
-            int offset = 0;
-
-            Sheet sheet = null;
-            int currentRowNum = 0;
-            int sheetIndex = 1;
 
             // Crear estilos reutilizables para encabezados y fechas
-            CellStyle headerStyle = createHeaderStyle(workbook);
-            CellStyle dateStyle = createDateCellStyle(workbook);
-            CellStyle dateTimeStyle = createDateTimeCellStyle(workbook);
-
-            while (offset < total) {
-                if (sheet == null || currentRowNum >= MAX_ROWS_PER_SHEET) {
-                    sheet = workbook.createSheet("Datos_" + sheetIndex++);
-                    currentRowNum = 0;
-                    createHeaderRow(sheet, headers, headerStyle);
-                    currentRowNum++;
+            CellStyles styles = new CellStyles(
+                    createHeaderStyle(workbook),
+                    createDateCellStyle(workbook),
+                    createDateTimeCellStyle(workbook)
+            );
+
+            List<ExportDataProvider<T>> parts = parallelism > 1 && executor != null && total > DATA_ROWS_PER_SHEET
+                    ? provider.split(DATA_ROWS_PER_SHEET)
+                    : List.of(provider);
+
+            List<TargetSheet> sheets;
+            if (parts.size() > 1) {
+                sheets = fillSheetsInParallel(workbook, parts, provider.getHeaders(),
+                        provider.getValueExtractors(), styles);
+            } else {
+                SheetWriter writer = new SheetWriter(workbook, provider.getHeaders(), provider.getValueExtractors(), styles);
+                if (parallelism > 1 && executor != null && provider.supportsRandomAccess() && total > PAGE_SIZE) {
+                    fillWithReadAhead(writer, provider, total);
+                } else {
+                    fillSequentially(writer, provider, total);
                 }
+                sheets = writer.sheets();
+            }
+
+            // Asignar una sola vez el ancho estimado de las columnas de cada hoja
+            for (TargetSheet target : sheets) {
+                target.widths().applyTo(target.sheet());
+            }
+
+            workbook.write(out);
+            workbook.dispose();
+        }
+    }
+
+    private void fillSequentially(SheetWriter writer, ExportDataProvider<T> provider, int total) {
+        int offset = 0;
+        while (offset < total) {
+            int limit = Math.min(PAGE_SIZE, total - offset);
+            writer.write(provider.getData(offset, limit));
+            offset += limit;
+        }
+    }
 
-                int rowsLeftInSheet = MAX_ROWS_PER_SHEET - currentRowNum;
-                int limit = Math.min(PAGE_SIZE, Math.min(rowsLeftInSheet, total - offset));
-                List<T> pageData = provider.getData(offset, limit);
+    /**
+     * Lee los bloques en el ejecutor configurado, con hasta {@code parallelism} lecturas en curso por
+     * delante de la escritura, y los escribe en orden desde el hilo que llama. Las lecturas no esperan
+     * unas a otras, por lo que no bloquean hilos del pool.
+     */
+    private void fillWithReadAhead(SheetWriter writer, ExportDataProvider<T> provider, int total) throws Exception {
+        int blocks = (total + PAGE_SIZE - 1) / PAGE_SIZE;
+        Deque<Future<List<T>>> pending = new ArrayDeque<>(parallelism);
+        int nextBlock = 0;
+        try {
+            for (int block = 0; block < blocks; block++) {
+                while (nextBlock < blocks && pending.size() < parallelism) {
+                    int offset = nextBlock++ * PAGE_SIZE;
+                    pending.add(executor.submit(() -> provider.getData(offset, PAGE_SIZE)));
+                }
+                List<T> page = await(pending.poll());
+                writer.write(page.subList(0, Math.min(page.size(), total - block * PAGE_SIZE)));
+                if (page.size() < PAGE_SIZE) {
+                    break;
+                }
+            }
+        } finally {
+            pending.forEach(task -> task.cancel(true));
+        }
+    }
 
-                for (T item : pageData) {
-                    Row row = sheet.createRow(currentRowNum++);
-                    for (int i = 0; i < extractors.size(); i++) {
-                        Object value = extractors.get(i).apply(item);
-                        Cell cell = row.createCell(i);
-                        setCellValue(cell, value, dateStyle, dateTimeStyle);
+    /**
+     * Genera una hoja por tramo, todas a la vez en el ejecutor configurado. Las hojas se crean en orden
+     * desde el hilo que llama; cada tarea lee su tramo y escribe solo en su hoja. Si una tarea falla,
+     * las demás se detienen antes de su siguiente bloque y se propaga el primer error, siempre después
+     * de que todas hayan terminado, para no cerrar el libro mientras alguna escribe en él.
+     *
+     * @return las hojas generadas, en el orden de los tramos
+     */
+    private List<TargetSheet> fillSheetsInParallel(SXSSFWorkbook workbook, List<ExportDataProvider<T>> parts,
+                                                   List<String> headers, List<Function<T, Object>> extractors,
+                                                   CellStyles styles) throws Exception {
+        List<TargetSheet> sheets = new ArrayList<>(parts.size());
+        for (int i = 0; i < parts.size(); i++) {
+            sheets.add(createSheet(workbook, i + 1, headers, styles));
+        }
+
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Future<Void>> tasks = new ArrayList<>(parts.size());
+        for (int i = 0; i < parts.size(); i++) {
+            TargetSheet target = sheets.get(i);
+            ExportDataProvider<T> part = parts.get(i);
+            tasks.add(executor.submit(() -> {
+                try {
+                    fillSheet(target, part, extractors, styles, failed);
+                    return null;
+                } catch (RuntimeException | Error e) {
+                    failed.set(true);
+                    throw e;
+                }
+            }));
+        }
+
+        Throwable error = null;
+        boolean interrupted = false;
+        for (Future<Void> task : tasks) {
+            while (true) {
+                try {
+                    task.get();
+                    break;
+                } catch (InterruptedException e) {
+                    // Se espera igualmente a que las tareas dejen de escribir en el libro
+                    interrupted = true;
+                    failed.set(true);
+                } catch (ExecutionException e) {
+                    if (error == null) {
+                        error = e.getCause();
                     }
+                    break;
                 }
+            }
+        }
+        if (error instanceof Exception exception) {
+            throw exception;
+        } else if (error instanceof Error fatal) {
+            throw fatal;
+        } else if (interrupted) {
+            throw new InterruptedException("Exportación Excel interrumpida");
+        }
+        return sheets;
+    }
+
+    /**
+     * Escribe en la hoja todas las filas del tramo, a partir de la fila siguiente al encabezado.
+     */
+    private void fillSheet(TargetSheet target, ExportDataProvider<T> part, List<Function<T, Object>> extractors,
+                           CellStyles styles, AtomicBoolean failed) {
+        int total = part.getTotalCount();
+        int rowNum = 1;
+        int offset = 0;
+        while (offset < total && !failed.get()) {
+            int limit = Math.min(PAGE_SIZE, total - offset);
+            List<T> page = part.getData(offset, limit);
+            rowNum = writeRows(target, rowNum, page, extractors, styles);
+            if (page.size() < limit) {
+                break;
+            }
+            offset += limit;
+        }
+    }
 
-                offset += limit;
+    private List<T> await(Future<List<T>> task) throws Exception {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
             }
+            throw e;
+        }
+    }
 
-            // Auto-ajustar columnas en todas las hojas (cuidado con hojas muy grandes)
-            for (int i = 0; i < sheetIndex - 1; i++) {
-                Sheet s = workbook.getSheetAt(i);
-                for (int col = 0; col < headers.size(); col++) {
-                    s.autoSizeColumn(col);
+    private TargetSheet createSheet(SXSSFWorkbook workbook, int index, List<String> headers, CellStyles styles) {
+        Sheet sheet = workbook.createSheet("Datos_" + index);
+        createHeaderRow(sheet, headers, styles.header());
+        return new TargetSheet(sheet, new ColumnWidthTracker(headers, columnWidthMode, columnWidthSampleRows));
+    }
+
+    /**
+     * Escribe los elementos como filas consecutivas a partir de {@code firstRow}.
+     *
+     * @return número de la siguiente fila libre
+     */
+    private int writeRows(TargetSheet target, int firstRow, List<T> items,
+                          List<Function<T, Object>> extractors, CellStyles styles) {
+        ColumnWidthTracker widths = target.widths();
+        int rowNum = firstRow;
+        for (T item : items) {
+            Row row = target.sheet().createRow(rowNum++);
+            boolean measure = widths.isMeasuring();
+            for (int i = 0; i < extractors.size(); i++) {
+                Object value = extractors.get(i).apply(item);
+                Cell cell = row.createCell(i);
+                setCellValue(cell, value, styles.date(), styles.dateTime());
+                if (measure) {
+                    widths.observe(i, value);
                 }
             }
-
-            try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                workbook.write(baos);
-                workbook.dispose();
-                return baos.toByteArray();
+            if (measure) {
+                widths.endRow();
             }
         }
+        return rowNum;
     }
 
     private void createHeaderRow(Sheet sheet, List<String> headers, CellStyle style) {
@@ -151,6 +366,60 @@ public class ExcelExporter<T> implements ExportStrategy<T> {
         }
     }
 
+    /**
+     * Estilos compartidos por todas las hojas del libro.
+     */
+    private record CellStyles(CellStyle header, CellStyle date, CellStyle dateTime) {
+    }
+
+    /**
+     * Hoja en construcción junto con el registro de ancho de sus columnas.
+     */
+    private record TargetSheet(Sheet sheet, ColumnWidthTracker widths) {
+    }
+
+    /**
+     * Escribe filas consecutivas en el libro, abriendo una hoja nueva cada {@code DATA_ROWS_PER_SHEET} filas.
+     * Solo se usa desde un hilo, porque {@link SXSSFWorkbook} no es seguro para uso concurrente.
+     */
+    private final class SheetWriter {
+
+        private final SXSSFWorkbook workbook;
+        private final List<String> headers;
+        private final List<Function<T, Object>> extractors;
+        private final CellStyles styles;
+        private final List<TargetSheet> sheets = new ArrayList<>();
+
+        private TargetSheet current;
+        private int rowNum;
+
+        SheetWriter(SXSSFWorkbook workbook, List<String> headers, List<Function<T, Object>> extractors,
+                    CellStyles styles) {
+            this.workbook = workbook;
+            this.headers = headers;
+            this.extractors = extractors;
+            this.styles = styles;
+        }
+
+        void write(List<T> items) {
+            int written = 0;
+            while (written < items.size()) {
+                if (current == null || rowNum >= MAX_ROWS_PER_SHEET) {
+                    current = createSheet(workbook, sheets.size() + 1, headers, styles);
+                    sheets.add(current);
+                    rowNum = 1;
+                }
+                int count = Math.min(items.size() - written, MAX_ROWS_PER_SHEET - rowNum);
+                rowNum = writeRows(current, rowNum, items.subList(written, written + count), extractors, styles);
+                written += count;
+            }
+        }
+
+        List<TargetSheet> sheets() {
+            return sheets;
+        }
+    }
+
     @Override
     public String getFileExtension() {
         return "xlsx";
@@ -0,0 +1,145 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Compresión aplicada al archivo exportado antes de almacenarlo o enviarlo.
+ * <p>
+ * La compresión se hace en streaming con commons-compress: el exportador escribe sobre el flujo
+ * comprimido y solo los bytes comprimidos llegan al almacenamiento o a la respuesta. Los flujos de
+ * compresión se cierran al terminar para liberar el compresor nativo, sin cerrar el flujo de destino.
+ * </p>
+ */
+public enum ExportCompression {
+
+    /**
+     * Sin compresión; el archivo se entrega tal cual.
+     */
+    NONE,
+
+    /**
+     * Archivo comprimido con gzip ({@code .gz}). Recomendado para CSV, que suele reducirse entre 5 y 10 veces.
+     */
+    GZIP,
+
+    /**
+     * Archivo ZIP con el archivo exportado como única entrada.
+     */
+    ZIP;
+
+    private static final String GZIP_CONTENT_TYPE = "application/gzip";
+    private static final String ZIP_CONTENT_TYPE = "application/zip";
+
+    /**
+     * Nombre del archivo entregado con esta compresión.
+     *
+     * @param filename nombre del archivo sin comprimir (por ejemplo {@code exported-data.csv})
+     * @return nombre del archivo comprimido (por ejemplo {@code exported-data.csv.gz} o {@code exported-data.zip})
+     */
+    public String getFilename(String filename) {
+        return switch (this) {
+            case NONE -> filename;
+            case GZIP -> filename + ".gz";
+            case ZIP -> {
+                int dot = filename.lastIndexOf('.');
+                yield (dot > 0 ? filename.substring(0, dot) : filename) + ".zip";
+            }
+        };
+    }
+
+    /**
+     * Tipo MIME del archivo entregado con esta compresión.
+     *
+     * @param contentType tipo MIME del archivo sin comprimir
+     * @return tipo MIME del archivo comprimido
+     */
+    public String getContentType(String contentType) {
+        return switch (this) {
+            case NONE -> contentType;
+            case GZIP -> GZIP_CONTENT_TYPE;
+            case ZIP -> ZIP_CONTENT_TYPE;
+        };
+    }
+
+    /**
+     * Envuelve la escritura de una exportación para que su salida se comprima.
+     *
+     * @param entryName nombre de la entrada dentro del ZIP (solo se usa con {@link #ZIP})
+     * @param writer    escritura original del archivo
+     * @return escritura que produce el archivo comprimido
+     */
+    public StreamingExport.ExportWriter wrap(String entryName, StreamingExport.ExportWriter writer) {
+        return switch (this) {
+            case NONE -> writer;
+            case GZIP -> out -> {
+                try (GzipCompressorOutputStream gzip = new GzipCompressorOutputStream(CloseShieldOutputStream.wrap(out))) {
+                    writer.write(gzip);
+                }
+            };
+            case ZIP -> out -> {
+                try (ZipArchiveOutputStream zip = new ZipArchiveOutputStream(CloseShieldOutputStream.wrap(out))) {
+                    zip.putArchiveEntry(new ZipArchiveEntry(entryName));
+                    writer.write(zip);
+                    zip.closeArchiveEntry();
+                }
+            };
+        };
+    }
+
+    /**
+     * Indica si conviene aplicar {@code Content-Encoding: gzip} a una descarga: el cliente lo acepta
+     * y el contenido es texto. Los formatos ya comprimidos (XLSX, PDF, ZIP, GZIP) se envían tal cual.
+     *
+     * @param contentType    tipo MIME del archivo
+     * @param acceptEncoding valor de la cabecera {@code Accept-Encoding}, o {@code null}
+     * @return {@code true} si la respuesta debe comprimirse con gzip
+     */
+    public static boolean shouldGzipResponse(String contentType, String acceptEncoding) {
+        return contentType != null && contentType.startsWith("text/") && acceptsGzip(acceptEncoding);
+    }
+
+    /**
+     * Indica si la cabecera {@code Accept-Encoding} admite gzip con un peso mayor que cero. Una entrada
+     * explícita de gzip prevalece sobre el comodín {@code *}, de modo que {@code gzip;q=0, *} lo rechaza.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals("gzip")) {
+                return isAccepted(parts);
+            }
+            if (coding.equals("*")) {
+                wildcard = isAccepted(parts);
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    /**
+     * Indica si una entrada de {@code Accept-Encoding} tiene un peso {@code q} mayor que cero, o no lo indica.
+     */
+    private static boolean isAccepted(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim().toLowerCase(Locale.ROOT);
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -47,4 +47,27 @@ public interface ExportDataProvider<T> {
      * @return total de elementos disponibles.
      */
     int getTotalCount();
+
+    /**
+     * Indica si {@link #getData(int, int)} admite lecturas en cualquier orden y desde varios hilos
+     * a la vez. Los proveedores que recorren un cursor o avanzan por clave deben devolver {@code false}.
+     *
+     * @return {@code true} si los bloques pueden pedirse en paralelo y en cualquier orden.
+     */
+    default boolean supportsRandomAccess() {
+        return true;
+    }
+
+    /**
+     * Divide los datos en tramos consecutivos de como máximo {@code partSize} elementos, cada uno con
+     * su propio proveedor. Los proveedores de los tramos son independientes entre sí, por lo que pueden
+     * leerse a la vez desde hilos distintos; cada uno se recorre desde el offset 0 y su
+     * {@link #getTotalCount()} es el número de elementos del tramo. Debe invocarse antes de leer datos.
+     *
+     * @param partSize número máximo de elementos por tramo
+     * @return los tramos en orden, o una lista con solo este proveedor si no admite división
+     */
+    default List<ExportDataProvider<T>> split(int partSize) {
+        return List.of(this);
+    }
 }
@@ -0,0 +1,367 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import com.reclutamiento.seguimientoSeleccion.dto.ExportResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Índice acotado de resultados de exportación, usado por las implementaciones de {@link ExportStorage}.
+ * <p>
+ * Cada entrada se pondera por su tamaño en bytes. La suma de los tamaños nunca supera el presupuesto
+ * configurado: al insertar se descartan primero las entradas expiradas y luego las menos usadas
+ * recientemente (LRU). Una entrada que por sí sola excede el presupuesto se rechaza.
+ * </p>
+ *
+ * <p>
+ * Un resultado que aún se está escribiendo puede apartar su espacio con {@link #reserve()}: el espacio
+ * reservado cuenta contra el mismo presupuesto que los resultados almacenados, de modo que varias
+ * exportaciones simultáneas no pueden superarlo entre todas. Al confirmar la reserva el resultado
+ * ocupa el espacio reservado sin volver a solicitarlo.
+ * </p>
+ *
+ * <p>
+ * Las entradas expiran tras el tiempo de vida indicado, tanto al consultarlas como en cada
+ * llamada a {@link #purgeExpired()}. Al retirar una entrada se invoca la acción de liberación
+ * (por ejemplo, borrar el archivo en disco) fuera del bloqueo interno.
+ * </p>
+ *
+ * <p>La clase es segura para uso concurrente.</p>
+ */
+public class ExportResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportResultCache.class);
+
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final Consumer<ExportResult> releaseAction;
+
+    /**
+     * Entradas en orden de acceso: la primera es la menos usada recientemente.
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long totalBytes;
+    private long heapBytes;
+    private long reservedBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    /**
+     * Crea la caché.
+     *
+     * @param maxBytes      presupuesto máximo en bytes para la suma de los resultados almacenados
+     * @param ttl           tiempo de vida de cada resultado desde que se almacena
+     * @param releaseAction acción que libera los recursos de un resultado retirado
+     */
+    public ExportResultCache(long maxBytes, Duration ttl, Consumer<ExportResult> releaseAction) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("El presupuesto de la caché de exportaciones debe ser positivo");
+        }
+        this.maxBytes = maxBytes;
+        this.ttlNanos = ttl.toNanos();
+        this.releaseAction = releaseAction;
+    }
+
+    /**
+     * Almacena un resultado, reemplazando el anterior con el mismo ID y liberando espacio si es necesario.
+     *
+     * @param id     identificador de la exportación
+     * @param result resultado a almacenar
+     * @throws IllegalStateException si el resultado supera por sí solo el presupuesto de la caché, o no cabe
+     *                               junto al espacio reservado por las exportaciones en curso
+     */
+    public void put(String id, ExportResult result) {
+        if (result.size() > maxBytes) {
+            releaseAction.accept(result);
+            throw new IllegalStateException("La exportación " + id + " ocupa " + result.size()
+                    + " bytes y supera el presupuesto de " + maxBytes + " bytes");
+        }
+        put(id, result, result.size(), 0);
+    }
+
+    /**
+     * Inicia la reserva de espacio para un resultado que aún se está escribiendo.
+     *
+     * @return reserva vacía, que crece con {@link Reservation#grow(long)}
+     */
+    public Reservation reserve() {
+        return new Reservation();
+    }
+
+    /**
+     * Almacena un resultado que ocupa {@code bytes} del presupuesto, de los cuales {@code reserved}
+     * ya estaban reservados y pasan a pertenecer a la entrada. Nunca supera el presupuesto: si el
+     * resultado no cabe junto a las demás reservas, se libera y se rechaza sin descartar nada.
+     */
+    private void put(String id, ExportResult result, long bytes, long reserved) {
+        List<ExportResult> released = new ArrayList<>();
+        try {
+            synchronized (this) {
+                reservedBytes -= reserved;
+                if (bytes > maxBytes - reservedBytes) {
+                    released.add(result);
+                    throw new IllegalStateException("La exportación " + id + " ocupa " + bytes
+                            + " bytes y no cabe en el presupuesto de " + maxBytes + " bytes ("
+                            + reservedBytes + " bytes reservados por exportaciones en curso)");
+                }
+                Entry previous = entries.remove(id);
+                if (previous != null) {
+                    unaccount(previous);
+                    if (previous.result() != result) {
+                        released.add(previous.result());
+                    }
+                }
+
+                long now = System.nanoTime();
+                makeRoom(bytes, now, released);
+
+                Entry entry = new Entry(result, bytes, now + ttlNanos);
+                entries.put(id, entry);
+                account(entry);
+            }
+        } finally {
+            released.forEach(releaseAction);
+        }
+    }
+
+    /**
+     * Aparta espacio del presupuesto, descartando resultados almacenados si es necesario.
+     *
+     * @throws IllegalStateException si el espacio no cabe ni descartando todos los resultados almacenados;
+     *                               en ese caso no se descarta ninguno
+     */
+    private void reserveBytes(long bytes) {
+        List<ExportResult> released = new ArrayList<>();
+        try {
+            synchronized (this) {
+                if (bytes > maxBytes - reservedBytes) {
+                    throw new IllegalStateException("La exportación supera el presupuesto de almacenamiento de "
+                            + maxBytes + " bytes (" + reservedBytes + " bytes reservados por exportaciones en curso)");
+                }
+                makeRoom(bytes, System.nanoTime(), released);
+                reservedBytes += bytes;
+            }
+        } finally {
+            released.forEach(releaseAction);
+        }
+    }
+
+    private synchronized void releaseReserved(long bytes) {
+        reservedBytes -= bytes;
+    }
+
+    /**
+     * Retira primero los resultados expirados y luego los menos usados recientemente hasta que
+     * {@code bytes} adicionales quepan en el presupuesto, o hasta que no queden resultados.
+     */
+    private void makeRoom(long bytes, long now, List<ExportResult> released) {
+        if (totalBytes + reservedBytes + bytes <= maxBytes) {
+            return;
+        }
+        removeExpired(now, released);
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (totalBytes + reservedBytes + bytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Entry> victim = eldest.next();
+            eldest.remove();
+            unaccount(victim.getValue());
+            released.add(victim.getValue().result());
+            evictions++;
+            logger.info("Exportación {} descartada de la caché por falta de espacio", victim.getKey());
+        }
+    }
+
+    /**
+     * Obtiene un resultado vigente y lo marca como usado recientemente.
+     *
+     * @param id identificador de la exportación
+     * @return resultado o {@code null} si no existe o ha expirado
+     */
+    public ExportResult get(String id) {
+        ExportResult expired;
+        synchronized (this) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            if (!entry.isExpired(System.nanoTime())) {
+                hits++;
+                return entry.result();
+            }
+            entries.remove(id);
+            unaccount(entry);
+            misses++;
+            expirations++;
+            expired = entry.result();
+        }
+        releaseAction.accept(expired);
+        return null;
+    }
+
+    /**
+     * Retira un resultado y libera sus recursos.
+     *
+     * @param id identificador de la exportación
+     */
+    public void remove(String id) {
+        Entry removed;
+        synchronized (this) {
+            removed = entries.remove(id);
+            if (removed == null) {
+                return;
+            }
+            unaccount(removed);
+        }
+        releaseAction.accept(removed.result());
+    }
+
+    /**
+     * Retira todos los resultados cuyo tiempo de vida ha terminado.
+     */
+    public void purgeExpired() {
+        List<ExportResult> released = new ArrayList<>();
+        synchronized (this) {
+            removeExpired(System.nanoTime(), released);
+        }
+        released.forEach(releaseAction);
+    }
+
+    /**
+     * Retira todos los resultados almacenados.
+     */
+    public void clear() {
+        List<ExportResult> released;
+        synchronized (this) {
+            released = entries.values().stream().map(Entry::result).toList();
+            entries.clear();
+            totalBytes = 0;
+            heapBytes = 0;
+        }
+        released.forEach(releaseAction);
+    }
+
+    /**
+     * Devuelve una instantánea de las estadísticas de la caché.
+     *
+     * @return estadísticas actuales
+     */
+    public synchronized Stats stats() {
+        return new Stats(entries.size(), totalBytes, heapBytes, reservedBytes, maxBytes,
+                hits, misses, evictions, expirations);
+    }
+
+    private void removeExpired(long now, List<ExportResult> released) {
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.isExpired(now)) {
+                it.remove();
+                unaccount(entry);
+                released.add(entry.result());
+                expirations++;
+            }
+        }
+    }
+
+    private void account(Entry entry) {
+        totalBytes += entry.bytes();
+        heapBytes += entry.heapBytes();
+    }
+
+    private void unaccount(Entry entry) {
+        totalBytes -= entry.bytes();
+        heapBytes -= entry.heapBytes();
+    }
+
+    /**
+     * @param bytes espacio que ocupa el resultado en el presupuesto; para un resultado que venía de una
+     *              reserva incluye el espacio reservado sin usar
+     */
+    private record Entry(ExportResult result, long bytes, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        long heapBytes() {
+            return result.isFileBacked() ? 0 : bytes;
+        }
+    }
+
+    /**
+     * Espacio apartado en el presupuesto para un resultado en escritura. La usa un solo hilo: crece
+     * mientras se escribe el resultado y al terminar se confirma con {@link #commit(String, ExportResult)}
+     * o se libera con {@link #close()}.
+     */
+    public final class Reservation implements AutoCloseable {
+
+        private long bytes;
+
+        private Reservation() {
+        }
+
+        /**
+         * Amplía la reserva.
+         *
+         * @param additional bytes adicionales a reservar
+         * @throws IllegalStateException si el presupuesto no admite la ampliación
+         */
+        public void grow(long additional) {
+            reserveBytes(additional);
+            bytes += additional;
+        }
+
+        /**
+         * Almacena el resultado ocupando el espacio reservado. Tras confirmarla, la reserva queda vacía.
+         * Un resultado en memoria ocupa todo lo reservado, porque sus bloques retienen ese espacio del
+         * heap; uno en disco ocupa solo su tamaño y el resto de la reserva se libera.
+         *
+         * @param id     identificador de la exportación
+         * @param result resultado escrito dentro del espacio reservado
+         */
+        public void commit(String id, ExportResult result) {
+            long reserved = bytes;
+            bytes = 0;
+            long size = result.isFileBacked() ? result.size() : Math.max(reserved, result.size());
+            put(id, result, size, reserved);
+        }
+
+        /**
+         * Libera el espacio reservado que no se haya confirmado.
+         */
+        @Override
+        public void close() {
+            if (bytes > 0) {
+                releaseReserved(bytes);
+                bytes = 0;
+            }
+        }
+    }
+
+    /**
+     * Estadísticas de uso de la caché de resultados.
+     *
+     * @param entries       número de resultados almacenados
+     * @param totalBytes    suma de los tamaños de los resultados almacenados
+     * @param heapBytes     bytes de resultados que residen en el heap
+     * @param reservedBytes bytes reservados por resultados que aún se están escribiendo
+     * @param maxBytes      presupuesto máximo en bytes
+     * @param hits          consultas que encontraron un resultado vigente
+     * @param misses        consultas sin resultado (inexistente o expirado)
+     * @param evictions     resultados descartados por falta de espacio
+     * @param expirations   resultados retirados por expiración
+     */
+    public record Stats(int entries, long totalBytes, long heapBytes, long reservedBytes, long maxBytes,
+                        long hits, long misses, long evictions, long expirations) {
+    }
+}
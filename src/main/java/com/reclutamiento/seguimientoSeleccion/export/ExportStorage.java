@@ -2,7 +2,64 @@ package com.reclutamiento.seguimientoSeleccion.export;
 
 import com.reclutamiento.seguimientoSeleccion.dto.ExportResult;
 
+/**
+ * Almacenamiento temporal de los resultados de exportaciones asíncronas.
+ * <p>
+ * La implementación activa se elige con la propiedad {@code export.storage.type}
+ * ({@code memory} por defecto, o {@code disk}). Ambas limitan el tamaño total almacenado
+ * y retiran los resultados expirados mediante un {@link ExportResultCache}.
+ * </p>
+ *
+ * @see InMemoryExportStorage
+ * @see FileSystemExportStorage
+ */
 public interface ExportStorage {
+
+    /**
+     * Guarda un resultado ya generado.
+     *
+     * @param id     identificador de la exportación
+     * @param result resultado a almacenar
+     */
     void save(String id, ExportResult result);
+
+    /**
+     * Genera y guarda un resultado escribiéndolo directamente en el almacenamiento.
+     *
+     * @param id          identificador de la exportación
+     * @param filename    nombre sugerido para el archivo descargado
+     * @param contentType tipo MIME del archivo
+     * @param writer      acción que escribe el contenido en el flujo recibido
+     * @return resultado almacenado
+     * @throws Exception si falla la generación o la escritura
+     */
+    ExportResult write(String id, String filename, String contentType, StreamingExport.ExportWriter writer)
+            throws Exception;
+
+    /**
+     * Obtiene un resultado almacenado.
+     *
+     * @param id identificador de la exportación
+     * @return resultado o {@code null} si no existe
+     */
     ExportResult get(String id);
+
+    /**
+     * Elimina un resultado y libera los recursos asociados.
+     *
+     * @param id identificador de la exportación
+     */
+    void remove(String id);
+
+    /**
+     * Retira los resultados cuyo tiempo de vida ha terminado.
+     */
+    void purgeExpired();
+
+    /**
+     * Devuelve las estadísticas de uso del almacenamiento.
+     *
+     * @return estadísticas actuales
+     */
+    ExportResultCache.Stats stats();
 }
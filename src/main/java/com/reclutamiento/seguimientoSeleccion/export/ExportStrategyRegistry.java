@@ -0,0 +1,121 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import com.reclutamiento.seguimientoSeleccion.config.ExcelExportProperties;
+import com.reclutamiento.seguimientoSeleccion.config.PdfExportProperties;
+import com.reclutamiento.seguimientoSeleccion.enums.ExportFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * Registro de las estrategias de exportación disponibles, indexadas por {@link ExportFormat}.
+ * <p>
+ * Las estrategias no guardan estado entre exportaciones y son seguras para uso concurrente,
+ * por lo que se crea una sola instancia de cada una al iniciar la aplicación. Cuando la aplicación
+ * está lista se ejecuta una exportación mínima con cada estrategia para cargar de antemano clases,
+ * fuentes y formatos, de modo que la primera exportación real no pague ese costo.
+ * </p>
+ */
+@Component
+public class ExportStrategyRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportStrategyRegistry.class);
+
+    private final Map<ExportFormat, ExportStrategy<Object>> strategies;
+    private final MultiFormatExporter multiFormatExporter;
+
+    /**
+     * Crea las estrategias con la configuración de cada formato.
+     *
+     * @param excelProperties     configuración de la generación de archivos Excel
+     * @param excelExportExecutor pool para leer en paralelo los datos de las exportaciones Excel
+     * @param pdfProperties       configuración de la generación de archivos PDF
+     * @param exportSinkExecutor  pool donde corren los formatos de una exportación combinada
+     */
+    public ExportStrategyRegistry(ExcelExportProperties excelProperties,
+                                  @Qualifier("excelExportExecutor") ExecutorService excelExportExecutor,
+                                  PdfExportProperties pdfProperties,
+                                  @Qualifier("exportSinkExecutor") ExecutorService exportSinkExecutor) {
+        Map<ExportFormat, ExportStrategy<Object>> map = new EnumMap<>(ExportFormat.class);
+        map.put(ExportFormat.PDF, new PdfExporter<>(pdfProperties.isLargeTable(), pdfProperties.getFlushRows()));
+        map.put(ExportFormat.EXCEL, new ExcelExporter<>(
+                excelProperties.getParallelism(),
+                excelExportExecutor,
+                excelProperties.getColumnWidth(),
+                excelProperties.getColumnWidthSampleRows()));
+        map.put(ExportFormat.CSV, new CsvExporter<>());
+        this.strategies = Collections.unmodifiableMap(map);
+        this.multiFormatExporter = new MultiFormatExporter(exportSinkExecutor);
+    }
+
+    /**
+     * Devuelve la estrategia de exportación del formato solicitado.
+     *
+     * @param format formato de exportación
+     * @param <T>    tipo de datos a exportar
+     * @return estrategia compartida para el formato
+     * @throws IllegalArgumentException si el formato no tiene estrategia registrada
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ExportStrategy<T> getStrategy(ExportFormat format) {
+        ExportStrategy<Object> strategy = strategies.get(format);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Formato de exportación no soportado: " + format);
+        }
+        return (ExportStrategy<T>) (ExportStrategy<?>) strategy;
+    }
+
+    /**
+     * Devuelve el exportador que genera varios formatos con una sola lectura de los datos.
+     *
+     * @return exportador combinado compartido
+     */
+    public MultiFormatExporter getMultiFormatExporter() {
+        return multiFormatExporter;
+    }
+
+    /**
+     * Ejecuta una exportación de una fila con cada estrategia, descartando el resultado.
+     * Un fallo aquí solo se registra: la estrategia se inicializará en la primera exportación real.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Function<Object, Object>> extractors = List.of(
+                row -> "texto",
+                row -> 1L,
+                row -> LocalDate.of(2000, 1, 1),
+                row -> LocalDateTime.of(2000, 1, 1, 0, 0),
+                row -> Boolean.TRUE
+        );
+        ExportDataProvider<Object> sample = new ListExportDataProvider<>(
+                List.of(new Object()), List.of("a", "b", "c", "d", "e"), extractors);
+
+        strategies.forEach((format, strategy) -> {
+            long start = System.nanoTime();
+            try {
+                if (strategy instanceof StreamingExportStrategy<Object> streaming) {
+                    streaming.exportTo(sample, OutputStream.nullOutputStream());
+                } else {
+                    strategy.export(sample);
+                }
+                logger.info("Estrategia de exportación {} precalentada en {} ms",
+                        format, (System.nanoTime() - start) / 1_000_000);
+            } catch (Exception e) {
+                logger.warn("No se pudo precalentar la estrategia de exportación {}: {}", format, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,150 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import com.reclutamiento.seguimientoSeleccion.config.ExportLimitsProperties;
+import com.reclutamiento.seguimientoSeleccion.config.ExportStorageProperties;
+import com.reclutamiento.seguimientoSeleccion.dto.ExportResult;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Almacenamiento de exportaciones en disco ({@code export.storage.type=disk}).
+ * <p>
+ * Los exportadores escriben directamente en un archivo temporal dentro del directorio configurado,
+ * de modo que el contenido nunca se mantiene completo en el heap. En memoria solo se guarda el
+ * índice con la ubicación de cada archivo; la descarga se sirve desde el archivo mediante
+ * {@link java.nio.channels.FileChannel#transferTo}.
+ * </p>
+ *
+ * <p>El espacio total en disco está acotado por {@code export.storage.max-size}; los archivos
+ * descartados o expirados se eliminan. Mientras se escribe, cada exportación reserva en el índice
+ * el espacio que va ocupando, de modo que varias exportaciones simultáneas no superan entre todas el
+ * presupuesto y la que no cabe falla en cuanto lo excede, sin terminar de escribirse.</p>
+ *
+ * <p>Al iniciar se eliminan los archivos que hubieran quedado de ejecuciones anteriores,
+ * ya que su índice no sobrevive a un reinicio.</p>
+ */
+@Service
+@ConditionalOnProperty(prefix = "export.storage", name = "type", havingValue = "disk")
+public class FileSystemExportStorage implements ExportStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSystemExportStorage.class);
+    private static final String FILE_PREFIX = "export-";
+    private static final String FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final ExportResultCache index;
+
+    /**
+     * Crea el almacenamiento y prepara el directorio de trabajo.
+     *
+     * @param properties propiedades con el directorio y el tamaño máximo de las exportaciones
+     * @param limits     límites de exportación, de donde se toma el tiempo de expiración
+     * @throws UncheckedIOException si el directorio no puede crearse
+     */
+    public FileSystemExportStorage(ExportStorageProperties properties, ExportLimitsProperties limits) {
+        this.directory = properties.getDirectory();
+        this.index = new ExportResultCache(
+                properties.getMaxSize().toBytes(),
+                Duration.ofMinutes(limits.getExpirationMinutes()),
+                result -> deleteQuietly(result.file()));
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear el directorio de exportaciones: " + directory, e);
+        }
+        deleteLeftoverFiles();
+        logger.info("Almacenamiento de exportaciones en disco: {}", directory.toAbsolutePath());
+    }
+
+    @Override
+    public void save(String id, ExportResult result) {
+        if (result.isFileBacked()) {
+            index.put(id, result);
+            return;
+        }
+        try {
+            write(id, result.filename(), result.contentType(), result::writeTo);
+        } catch (Exception e) {
+            throw new IllegalStateException("No se pudo guardar la exportación " + id + " en disco", e);
+        }
+    }
+
+    @Override
+    public ExportResult write(String id, String filename, String contentType, StreamingExport.ExportWriter writer)
+            throws Exception {
+        try (ExportResultCache.Reservation reservation = index.reserve()) {
+            Path file = Files.createTempFile(directory, FILE_PREFIX, FILE_SUFFIX);
+            try {
+                try (OutputStream out = new BufferedOutputStream(
+                        new ReservingOutputStream(Files.newOutputStream(file), reservation), BUFFER_SIZE)) {
+                    writer.write(out);
+                }
+                ExportResult result = ExportResult.ofFile(file, Files.size(file), filename, contentType);
+                reservation.commit(id, result);
+                return result;
+            } catch (Exception e) {
+                deleteQuietly(file);
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public ExportResult get(String id) {
+        return index.get(id);
+    }
+
+    @Override
+    public void remove(String id) {
+        index.remove(id);
+    }
+
+    @Override
+    public void purgeExpired() {
+        index.purgeExpired();
+    }
+
+    @Override
+    public ExportResultCache.Stats stats() {
+        return index.stats();
+    }
+
+    /**
+     * Elimina los archivos de todas las exportaciones al detener la aplicación.
+     */
+    @PreDestroy
+    public void clear() {
+        index.clear();
+    }
+
+    private void deleteLeftoverFiles() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        } catch (IOException e) {
+            logger.warn("No se pudieron limpiar exportaciones anteriores en {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("No se pudo eliminar el archivo de exportación {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -1,23 +1,131 @@
 package com.reclutamiento.seguimientoSeleccion.export;
 
+import com.reclutamiento.seguimientoSeleccion.config.ExportLimitsProperties;
+import com.reclutamiento.seguimientoSeleccion.config.ExportStorageProperties;
 import com.reclutamiento.seguimientoSeleccion.dto.ExportResult;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
+/**
+ * Almacenamiento de exportaciones en memoria. Es la implementación por defecto
+ * ({@code export.storage.type=memory}).
+ * <p>
+ * El tamaño total de los resultados está acotado por {@code export.storage.max-size}. Cada exportación
+ * reserva en la caché el espacio que va ocupando mientras se escribe, por lo que el presupuesto cubre
+ * tanto los resultados almacenados como los que están en curso; la escritura se interrumpe en cuanto
+ * no queda espacio, antes de agotar el heap. Los bloques escritos pasan al resultado sin copiarse.
+ * </p>
+ */
 @Service
+@ConditionalOnProperty(prefix = "export.storage", name = "type", havingValue = "memory", matchIfMissing = true)
 public class InMemoryExportStorage implements ExportStorage {
 
-    private final Map<String, ExportResult> store = new ConcurrentHashMap<>();
+    private final ExportResultCache cache;
+
+    /**
+     * Crea el almacenamiento con el presupuesto y el tiempo de vida configurados.
+     *
+     * @param properties propiedades del almacenamiento de exportaciones
+     * @param limits     límites de exportación, de donde se toma el tiempo de expiración
+     */
+    public InMemoryExportStorage(ExportStorageProperties properties, ExportLimitsProperties limits) {
+        this.cache = new ExportResultCache(properties.getMaxSize().toBytes(), Duration.ofMinutes(limits.getExpirationMinutes()), result -> { });
+    }
 
     @Override
     public void save(String id, ExportResult result) {
-        store.put(id, result);
+        cache.put(id, result);
+    }
+
+    @Override
+    public ExportResult write(String id, String filename, String contentType, StreamingExport.ExportWriter writer)
+            throws Exception {
+        try (ExportResultCache.Reservation reservation = cache.reserve()) {
+            ReservedOutputStream out = new ReservedOutputStream(reservation);
+            writer.write(out);
+            ExportResult result = ExportResult.ofChunks(out.chunks, out.size, filename, contentType);
+            reservation.commit(id, result);
+            return result;
+        }
     }
 
     @Override
     public ExportResult get(String id) {
-        return store.get(id);
+        return cache.get(id);
+    }
+
+    @Override
+    public void remove(String id) {
+        cache.remove(id);
+    }
+
+    @Override
+    public void purgeExpired() {
+        cache.purgeExpired();
+    }
+
+    @Override
+    public ExportResultCache.Stats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Flujo en memoria que escribe en bloques de tamaño creciente y reserva cada bloque en la caché
+     * antes de crearlo. Falla con {@link IllegalStateException} si el presupuesto no admite otro bloque.
+     */
+    private static final class ReservedOutputStream extends OutputStream {
+
+        private static final int FIRST_CHUNK_SIZE = 8 * 1024;
+        private static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+        private final ExportResultCache.Reservation reservation;
+        private final List<byte[]> chunks = new ArrayList<>();
+
+        private byte[] current;
+        private int position;
+        private long size;
+
+        ReservedOutputStream(ExportResultCache.Reservation reservation) {
+            this.reservation = reservation;
+        }
+
+        @Override
+        public void write(int b) {
+            if (current == null || position == current.length) {
+                nextChunk();
+            }
+            current[position++] = (byte) b;
+            size++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            while (len > 0) {
+                if (current == null || position == current.length) {
+                    nextChunk();
+                }
+                int count = Math.min(len, current.length - position);
+                System.arraycopy(b, off, current, position, count);
+                position += count;
+                off += count;
+                len -= count;
+                size += count;
+            }
+        }
+
+        private void nextChunk() {
+            int length = current == null ? FIRST_CHUNK_SIZE : Math.min(MAX_CHUNK_SIZE, current.length * 2);
+            reservation.grow(length);
+            current = new byte[length];
+            chunks.add(current);
+            position = 0;
+        }
     }
 }
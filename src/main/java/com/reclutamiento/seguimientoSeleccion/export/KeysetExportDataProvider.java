@@ -0,0 +1,221 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * ExportDataProvider que recorre los datos mediante paginación por clave (keyset o "seek").
+ * <p>
+ * En lugar de traducir cada bloque a una consulta {@code OFFSET n LIMIT m}, recuerda la última
+ * clave leída y pide el siguiente bloque con {@code id > ultimaClave ORDER BY id}. Así cada consulta
+ * aprovecha el índice de la clave primaria y su costo no crece con la posición del bloque.
+ * Los bloques se obtienen como {@link Slice}, por lo que no se ejecuta un {@code count(*)} por bloque;
+ * el total se calcula una única vez mediante el proveedor de conteo.
+ * </p>
+ *
+ * <p>Solo admite lectura secuencial: cada llamada a {@link #getData(int, int)} debe continuar
+ * exactamente donde terminó la anterior, que es como recorren los datos los exportadores.</p>
+ *
+ * <p>
+ * Si se indica cómo obtener las claves de corte, {@link #split(int)} divide los datos en rangos de
+ * claves {@code (desde, hasta]} con su propio proveedor, que busca directamente el inicio de su rango
+ * y se detiene al superar su última clave. Así varios rangos pueden leerse a la vez sin recorrer los
+ * anteriores.
+ * </p>
+ *
+ * @param <T> Tipo de dato a exportar.
+ */
+public class KeysetExportDataProvider<T> implements ExportDataProvider<T> {
+
+    private final BiFunction<Long, Pageable, Slice<T>> sliceFetcher;
+    private final Function<T, Long> keyExtractor;
+    private final LongSupplier countSupplier;
+    private final List<String> headers;
+    private final List<Function<T, Object>> valueExtractors;
+    private final IntFunction<List<Long>> splitKeyFetcher;
+    private final long upperKey;
+
+    private long lastSeenKey;
+    private int nextOffset = 0;
+    private boolean exhausted = false;
+    private int totalCount = -1;
+
+    /**
+     * Crea un proveedor por clave.
+     *
+     * @param sliceFetcher    función que devuelve el bloque de elementos con clave mayor a la recibida,
+     *                        ordenados ascendentemente por clave y con el tamaño indicado en el {@link Pageable}
+     * @param keyExtractor    función que obtiene la clave de ordenamiento de cada elemento
+     * @param countSupplier   función que devuelve el total de elementos a exportar
+     * @param headers         lista de encabezados de columna
+     * @param valueExtractors funciones para extraer los valores de cada columna
+     */
+    public KeysetExportDataProvider(BiFunction<Long, Pageable, Slice<T>> sliceFetcher,
+                                    Function<T, Long> keyExtractor,
+                                    LongSupplier countSupplier,
+                                    List<String> headers,
+                                    List<Function<T, Object>> valueExtractors) {
+        this(sliceFetcher, keyExtractor, countSupplier, headers, valueExtractors, null);
+    }
+
+    /**
+     * Crea un proveedor por clave que puede dividirse en rangos de claves con {@link #split(int)}.
+     *
+     * @param sliceFetcher    función que devuelve el bloque de elementos con clave mayor a la recibida,
+     *                        ordenados ascendentemente por clave y con el tamaño indicado en el {@link Pageable}
+     * @param keyExtractor    función que obtiene la clave de ordenamiento de cada elemento
+     * @param countSupplier   función que devuelve el total de elementos a exportar
+     * @param headers         lista de encabezados de columna
+     * @param valueExtractors funciones para extraer los valores de cada columna
+     * @param splitKeyFetcher función que, para un tamaño de rango {@code n}, devuelve en orden las claves
+     *                        de los elementos en las posiciones {@code n, 2n, 3n...}; {@code null} si el
+     *                        proveedor no debe dividirse
+     */
+    public KeysetExportDataProvider(BiFunction<Long, Pageable, Slice<T>> sliceFetcher,
+                                    Function<T, Long> keyExtractor,
+                                    LongSupplier countSupplier,
+                                    List<String> headers,
+                                    List<Function<T, Object>> valueExtractors,
+                                    IntFunction<List<Long>> splitKeyFetcher) {
+        this.sliceFetcher = sliceFetcher;
+        this.keyExtractor = keyExtractor;
+        this.countSupplier = countSupplier;
+        this.headers = headers;
+        this.valueExtractors = valueExtractors;
+        this.splitKeyFetcher = splitKeyFetcher;
+        this.lastSeenKey = Long.MIN_VALUE;
+        this.upperKey = Long.MAX_VALUE;
+    }
+
+    /**
+     * Crea el proveedor del rango de claves {@code (lowerKey, upperKey]} con {@code count} elementos.
+     */
+    private KeysetExportDataProvider(KeysetExportDataProvider<T> parent, long lowerKey, long upperKey, int count) {
+        this.sliceFetcher = parent.sliceFetcher;
+        this.keyExtractor = parent.keyExtractor;
+        this.countSupplier = () -> count;
+        this.headers = parent.headers;
+        this.valueExtractors = parent.valueExtractors;
+        this.splitKeyFetcher = null;
+        this.lastSeenKey = lowerKey;
+        this.upperKey = upperKey;
+        this.totalCount = count;
+    }
+
+    @Override
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public List<Function<T, Object>> getValueExtractors() {
+        return valueExtractors;
+    }
+
+    /**
+     * Obtiene el siguiente bloque de datos a partir de la última clave leída.
+     *
+     * @param offset posición inicial (debe coincidir con el final del bloque anterior).
+     * @param limit  cantidad máxima de registros.
+     * @return lista de datos.
+     * @throws IllegalStateException si se solicita un bloque fuera de orden.
+     */
+    @Override
+    public List<T> getData(int offset, int limit) {
+        if (offset != nextOffset) {
+            throw new IllegalStateException(
+                    "La paginación por clave solo admite lectura secuencial (esperado offset "
+                            + nextOffset + ", recibido " + offset + ")");
+        }
+        nextOffset = offset + limit;
+
+        if (exhausted) {
+            return List.of();
+        }
+
+        Slice<T> slice = sliceFetcher.apply(lastSeenKey, PageRequest.of(0, limit));
+        List<T> content = slice.getContent();
+        if (!slice.hasNext()) {
+            exhausted = true;
+        }
+        int end = content.size();
+        while (end > 0 && keyExtractor.apply(content.get(end - 1)) > upperKey) {
+            end--;
+        }
+        if (end < content.size()) {
+            // El bloque alcanzó el rango siguiente
+            content = content.subList(0, end);
+            exhausted = true;
+        }
+        if (!content.isEmpty()) {
+            lastSeenKey = keyExtractor.apply(content.get(content.size() - 1));
+        }
+        return content;
+    }
+
+    /**
+     * Obtiene el total de registros. Se calcula una sola vez.
+     */
+    @Override
+    public int getTotalCount() {
+        if (totalCount == -1) {
+            totalCount = (int) countSupplier.getAsLong();
+        }
+        return totalCount;
+    }
+
+    /**
+     * Divide los datos en rangos de claves de {@code partSize} elementos según las claves de corte.
+     * El último rango no tiene clave final y termina al completar el total calculado.
+     *
+     * @param partSize número máximo de elementos por rango
+     * @return los rangos en orden, o una lista con solo este proveedor si no se indicó cómo obtener
+     * las claves de corte o los datos caben en un solo rango
+     * @throws IllegalStateException si ya se leyeron datos de este proveedor
+     */
+    @Override
+    public List<ExportDataProvider<T>> split(int partSize) {
+        if (nextOffset != 0) {
+            throw new IllegalStateException("El proveedor solo puede dividirse antes de leer datos");
+        }
+        int remaining = getTotalCount();
+        if (splitKeyFetcher == null || remaining <= partSize) {
+            return List.of(this);
+        }
+
+        List<Long> splitKeys = splitKeyFetcher.apply(partSize);
+        List<ExportDataProvider<T>> parts = new ArrayList<>(splitKeys.size() + 1);
+        long lowerKey = lastSeenKey;
+        for (Long splitKey : splitKeys) {
+            if (remaining <= 0) {
+                break;
+            }
+            int count = Math.min(partSize, remaining);
+            parts.add(new KeysetExportDataProvider<>(this, lowerKey, splitKey, count));
+            lowerKey = splitKey;
+            remaining -= count;
+        }
+        if (remaining > 0) {
+            parts.add(new KeysetExportDataProvider<>(this, lowerKey, Long.MAX_VALUE, remaining));
+        }
+        return parts;
+    }
+
+    /**
+     * Los bloques deben leerse en orden: cada bloque depende de la última clave leída.
+     *
+     * @return siempre {@code false}
+     */
+    @Override
+    public boolean supportsRandomAccess() {
+        return false;
+    }
+}
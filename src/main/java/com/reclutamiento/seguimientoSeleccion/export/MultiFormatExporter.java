@@ -0,0 +1,281 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Exporta un mismo conjunto de datos a varios formatos con una sola lectura y entrega un ZIP
+ * con un archivo por formato.
+ * <p>
+ * El hilo que invoca lee el proveedor de origen por bloques y reparte cada bloque a todas las
+ * estrategias, que se ejecutan a la vez en el ejecutor recibido. Cada estrategia consume su propia
+ * cola acotada, de modo que la lectura avanza al ritmo de la más lenta sin acumular datos en memoria.
+ * Así la base de datos y el mapeo de filas se recorren una sola vez por exportación, sin importar
+ * cuántos formatos se pidan.
+ * </p>
+ *
+ * <p>
+ * Un ZIP solo admite escribir una entrada a la vez, por lo que cada estrategia escribe en un archivo
+ * temporal y al final los archivos se copian como entradas del ZIP. Si la lectura o cualquiera de las
+ * estrategias falla, el resto se detiene y se propaga el primer error.
+ * </p>
+ */
+public class MultiFormatExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MultiFormatExporter.class);
+
+    /**
+     * Filas leídas del origen por bloque.
+     */
+    private static final int CHUNK_SIZE = 500;
+
+    /**
+     * Bloques que puede tener pendientes cada estrategia antes de frenar la lectura.
+     */
+    private static final int QUEUE_CHUNKS = 4;
+
+    private static final long POLL_MILLIS = 100;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Executor executor;
+
+    /**
+     * @param executor ejecutor donde corren las estrategias; debe poder ejecutar a la vez tantas tareas
+     *                 como formatos tenga una exportación, ya que cada una espera los bloques de la lectura
+     */
+    public MultiFormatExporter(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Exporta los datos del origen con cada estrategia y escribe el ZIP resultante.
+     *
+     * @param source     proveedor de datos, leído una sola vez y de forma secuencial
+     * @param strategies estrategias por nombre de la entrada del ZIP, en el orden de las entradas
+     * @param out        flujo donde se escribe el ZIP; no se cierra
+     * @param <T>        tipo de dato exportado
+     * @throws Exception si falla la lectura, alguna estrategia o la escritura del ZIP
+     */
+    public <T> void exportTo(ExportDataProvider<T> source,
+                             Map<String, StreamingExportStrategy<T>> strategies,
+                             OutputStream out) throws Exception {
+        int total = source.getTotalCount();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Sink<T>> sinks = new ArrayList<>(strategies.size());
+        List<CompletableFuture<Void>> running = new ArrayList<>(strategies.size());
+
+        try {
+            for (Map.Entry<String, StreamingExportStrategy<T>> entry : strategies.entrySet()) {
+                Sink<T> sink = new Sink<>(entry.getKey(), Files.createTempFile("export-bundle-", ".part"),
+                        source, total, failure);
+                sinks.add(sink);
+                running.add(CompletableFuture.runAsync(() -> sink.run(entry.getValue()), executor));
+            }
+
+            try {
+                distribute(source, total, sinks, failure);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+            for (CompletableFuture<Void> sink : running) {
+                try {
+                    sink.join();
+                } catch (CompletionException e) {
+                    // El error ya quedó registrado en failure
+                }
+            }
+
+            Throwable error = failure.get();
+            if (error instanceof Exception exception) {
+                throw exception;
+            } else if (error instanceof Error fatal) {
+                throw fatal;
+            }
+
+            try (ZipArchiveOutputStream zip = new ZipArchiveOutputStream(CloseShieldOutputStream.wrap(out))) {
+                for (Sink<T> sink : sinks) {
+                    zip.putArchiveEntry(new ZipArchiveEntry(sink.entryName));
+                    Files.copy(sink.file, zip);
+                    zip.closeArchiveEntry();
+                }
+            }
+        } finally {
+            for (Sink<T> sink : sinks) {
+                try {
+                    Files.deleteIfExists(sink.file);
+                } catch (IOException e) {
+                    logger.warn("No se pudo eliminar el archivo temporal {}: {}", sink.file, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Lee el origen por bloques y entrega cada bloque a todas las estrategias.
+     */
+    private <T> void distribute(ExportDataProvider<T> source, int total, List<Sink<T>> sinks,
+                                AtomicReference<Throwable> failure) {
+        int offset = 0;
+        while (offset < total && failure.get() == null) {
+            int limit = Math.min(CHUNK_SIZE, total - offset);
+            List<T> chunk = source.getData(offset, limit);
+            for (Sink<T> sink : sinks) {
+                sink.offer(chunk);
+            }
+            if (chunk.size() < limit) {
+                break;
+            }
+            offset += limit;
+        }
+        for (Sink<T> sink : sinks) {
+            sink.offer(sink.end);
+        }
+    }
+
+    /**
+     * Destino de un formato: cola de bloques pendientes, archivo temporal y la vista secuencial
+     * de los datos que consume su estrategia.
+     */
+    private static final class Sink<T> implements ExportDataProvider<T> {
+
+        private final String entryName;
+        private final Path file;
+        private final ExportDataProvider<T> source;
+        private final int total;
+        private final AtomicReference<Throwable> failure;
+        private final BlockingQueue<List<T>> queue = new ArrayBlockingQueue<>(QUEUE_CHUNKS);
+
+        /**
+         * Marca de fin de datos; se compara por identidad.
+         */
+        private final List<T> end = Collections.unmodifiableList(new ArrayList<>());
+
+        private volatile boolean closed;
+        private List<T> current = List.of();
+        private int index;
+        private boolean ended;
+
+        private Sink(String entryName, Path file, ExportDataProvider<T> source, int total,
+                     AtomicReference<Throwable> failure) {
+            this.entryName = entryName;
+            this.file = file;
+            this.source = source;
+            this.total = total;
+            this.failure = failure;
+        }
+
+        private void run(StreamingExportStrategy<T> strategy) {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE)) {
+                strategy.exportTo(this, out);
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+                throw new CompletionException(e);
+            } finally {
+                closed = true;
+                queue.clear();
+            }
+        }
+
+        /**
+         * Entrega un bloque a la estrategia, esperando mientras su cola esté llena. Se descarta si la
+         * estrategia ya terminó (por ejemplo, porque leyó todas las filas que esperaba) o si hubo un error.
+         */
+        private void offer(List<T> chunk) {
+            try {
+                while (!closed && failure.get() == null) {
+                    if (queue.offer(chunk, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Exportación combinada interrumpida", e);
+            }
+        }
+
+        private List<T> take() {
+            try {
+                while (true) {
+                    List<T> chunk = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (chunk != null) {
+                        return chunk;
+                    }
+                    if (failure.get() != null) {
+                        throw new IllegalStateException("Exportación combinada interrumpida por un error en otro formato");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Exportación combinada interrumpida", e);
+            }
+        }
+
+        @Override
+        public List<String> getHeaders() {
+            return source.getHeaders();
+        }
+
+        @Override
+        public List<Function<T, Object>> getValueExtractors() {
+            return source.getValueExtractors();
+        }
+
+        /**
+         * Devuelve las siguientes filas recibidas de la lectura, sin importar el tamaño de los bloques
+         * originales. Solo admite acceso secuencial.
+         */
+        @Override
+        public List<T> getData(int offset, int limit) {
+            List<T> rows = new ArrayList<>(limit);
+            while (rows.size() < limit) {
+                if (index >= current.size()) {
+                    if (ended) {
+                        break;
+                    }
+                    List<T> next = take();
+                    if (next == end) {
+                        ended = true;
+                        break;
+                    }
+                    current = next;
+                    index = 0;
+                }
+                int count = Math.min(limit - rows.size(), current.size() - index);
+                rows.addAll(current.subList(index, index + count));
+                index += count;
+            }
+            return rows;
+        }
+
+        @Override
+        public int getTotalCount() {
+            return total;
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return false;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.reclutamiento.seguimientoSeleccion.export;
 
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
 import com.itextpdf.io.font.constants.StandardFonts;
 import com.itextpdf.kernel.font.PdfFont;
 import com.itextpdf.kernel.font.PdfFontFactory;
@@ -11,68 +14,176 @@ import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.properties.AreaBreakType;
+import com.itextpdf.layout.properties.UnitValue;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.function.Function;
 
-public class PdfExporter<T> implements ExportStrategy<T> {
+/**
+ * Exportador de datos a archivo PDF usando iText.
+ * <p>
+ * Por defecto genera una tabla por cada {@value #ROWS_PER_PAGE} filas, separadas por saltos de página.
+ * En modo de tabla grande usa una única tabla incremental ({@code new Table(columnas, true)}) que se
+ * vacía hacia el flujo de salida cada {@code flushRows} filas, por lo que la memoria usada no depende
+ * del número de filas exportadas.
+ * </p>
+ *
+ * <p>
+ * La métrica de la fuente Helvetica se carga una vez por instancia; cada documento solo crea el
+ * {@link PdfFont} liviano que la referencia. Las instancias son seguras para uso concurrente.
+ * </p>
+ *
+ * @param <T> Tipo de objeto a exportar.
+ */
+public class PdfExporter<T> implements StreamingExportStrategy<T> {
 
     // Cantidad máxima de filas de datos por página (sin contar encabezados)
     private static final int ROWS_PER_PAGE = 40;
 
+    // Filas leídas del proveedor en cada bloque en el modo de tabla grande
+    private static final int FETCH_SIZE = 500;
+
+    private static final int DEFAULT_FLUSH_ROWS = 100;
+
+    private final boolean largeTable;
+    private final int flushRows;
+    private final FontProgram fontProgram;
+
+    /**
+     * Crea un exportador que genera una tabla por página.
+     */
+    public PdfExporter() {
+        this(false, DEFAULT_FLUSH_ROWS);
+    }
+
+    /**
+     * Crea un exportador con el modo de tabla indicado.
+     *
+     * @param largeTable {@code true} para escribir una única tabla incremental
+     * @param flushRows  filas tras las cuales la tabla incremental se vacía hacia el documento
+     */
+    public PdfExporter(boolean largeTable, int flushRows) {
+        this.largeTable = largeTable;
+        this.flushRows = Math.max(1, flushRows);
+        try {
+            this.fontProgram = FontProgramFactory.createFont(StandardFonts.HELVETICA);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo cargar la fuente " + StandardFonts.HELVETICA, e);
+        }
+    }
+
     @Override
     public byte[] export(ExportDataProvider<T> provider) throws Exception {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            PdfWriter writer = new PdfWriter(baos);
-            PdfDocument pdf = new PdfDocument(writer);
-            Document document = new Document(pdf);
+            exportTo(provider, baos);
+            return baos.toByteArray();
+        }
+    }
 
-            PdfFont font = PdfFontFactory.createFont(StandardFonts.HELVETICA);
-            document.setFont(font);
+    @Override
+    public void exportTo(ExportDataProvider<T> provider, OutputStream out) throws Exception {
+        PdfWriter writer = new PdfWriter(out);
+        // El flujo pertenece a quien invoca; cerrar el documento no debe cerrarlo
+        writer.setCloseStream(false);
+        PdfDocument pdf = new PdfDocument(writer);
+        Document document = new Document(pdf);
+
+        PdfFont font = PdfFontFactory.createFont(fontProgram, PdfEncodings.WINANSI);
+        document.setFont(font);
+
+        if (largeTable) {
+            writeLargeTable(document, provider);
+        } else {
+            writePagedTables(document, provider);
+        }
 
-            List<String> headers = provider.getHeaders();
-            List<Function<T, Object>> valueExtractors = provider.getValueExtractors();
+        document.close();
+    }
 
-            int totalCount = provider.getTotalCount();
-            int offset = 0;
+    /**
+     * Escribe los datos en tablas independientes de {@value #ROWS_PER_PAGE} filas, una por página.
+     */
+    private void writePagedTables(Document document, ExportDataProvider<T> provider) {
+        List<String> headers = provider.getHeaders();
+        List<Function<T, Object>> valueExtractors = provider.getValueExtractors();
 
-            while (offset < totalCount) {
-                int limit = Math.min(ROWS_PER_PAGE, totalCount - offset);
-                List<T> dataChunk = provider.getData(offset, limit);
+        int totalCount = provider.getTotalCount();
+        int offset = 0;
 
-                Table table = new Table(headers.size());
+        while (offset < totalCount) {
+            int limit = Math.min(ROWS_PER_PAGE, totalCount - offset);
+            List<T> dataChunk = provider.getData(offset, limit);
 
-                // Agregar encabezados
-                for (String col : headers) {
-                    table.addHeaderCell(new Cell().add(new Paragraph(col).setBold()));
-                }
+            Table table = new Table(headers.size());
 
-                // Agregar filas de datos
-                for (T item : dataChunk) {
-                    for (Function<T, Object> extractor : valueExtractors) {
-                        Object value = extractor.apply(item);
-                        String text = formatValue(value);
-                        table.addCell(new Cell().add(new Paragraph(text)));
-                    }
+            // Agregar encabezados
+            for (String col : headers) {
+                table.addHeaderCell(new Cell().add(new Paragraph(col).setBold()));
+            }
+
+            // Agregar filas de datos
+            for (T item : dataChunk) {
+                for (Function<T, Object> extractor : valueExtractors) {
+                    Object value = extractor.apply(item);
+                    String text = formatValue(value);
+                    table.addCell(new Cell().add(new Paragraph(text)));
                 }
+            }
 
-                document.add(table);
+            document.add(table);
 
-                offset += limit;
+            offset += limit;
 
-                // Si no es la última página, insertar salto de página
-                if (offset < totalCount) {
-                    document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
-                }
+            // Si no es la última página, insertar salto de página
+            if (offset < totalCount) {
+                document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
             }
+        }
+    }
 
-            document.close();
+    /**
+     * Escribe los datos en una única tabla incremental. La tabla se agrega al documento antes de
+     * llenarse y se vacía cada {@code flushRows} filas; el encabezado se repite en cada página.
+     * Las columnas tienen ancho fijo para que iText no tenga que conocer todas las filas al maquetar.
+     */
+    private void writeLargeTable(Document document, ExportDataProvider<T> provider) {
+        List<String> headers = provider.getHeaders();
+        List<Function<T, Object>> valueExtractors = provider.getValueExtractors();
+
+        Table table = new Table(UnitValue.createPercentArray(headers.size()), true).useAllAvailableWidth();
+        for (String col : headers) {
+            table.addHeaderCell(new Cell().add(new Paragraph(col).setBold()));
+        }
+        document.add(table);
 
-            return baos.toByteArray();
+        int totalCount = provider.getTotalCount();
+        int offset = 0;
+        int pendingRows = 0;
+
+        while (offset < totalCount) {
+            int limit = Math.min(FETCH_SIZE, totalCount - offset);
+            List<T> dataChunk = provider.getData(offset, limit);
+
+            for (T item : dataChunk) {
+                for (Function<T, Object> extractor : valueExtractors) {
+                    table.addCell(new Cell().add(new Paragraph(formatValue(extractor.apply(item)))));
+                }
+                if (++pendingRows >= flushRows) {
+                    table.flush();
+                    pendingRows = 0;
+                }
+            }
+
+            offset += limit;
         }
+
+        table.complete();
     }
 
     private String formatValue(Object value) {
@@ -0,0 +1,83 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * ExportDataProvider que delega en otro proveedor e informa cuántas filas entrega cada bloque,
+ * para reportar el avance de una exportación.
+ * <p>
+ * Antes de leer cada bloque consulta si la exportación fue cancelada y, en ese caso, lanza
+ * {@link CancellationException}. Así la cancelación detiene tanto las consultas a la base de datos
+ * como la generación del archivo, sin que los exportadores tengan que conocerla.
+ * </p>
+ *
+ * @param <T> Tipo de dato a exportar.
+ */
+public class ProgressTrackingExportDataProvider<T> implements ExportDataProvider<T> {
+
+    private final ExportDataProvider<T> delegate;
+    private final IntConsumer rowsRead;
+    private final BooleanSupplier cancelled;
+
+    /**
+     * @param delegate  proveedor de datos original
+     * @param rowsRead  función que recibe el número de filas de cada bloque leído; debe admitir
+     *                  llamadas concurrentes si el proveedor se lee desde varios hilos
+     * @param cancelled indica si la exportación fue cancelada
+     */
+    public ProgressTrackingExportDataProvider(ExportDataProvider<T> delegate, IntConsumer rowsRead,
+                                              BooleanSupplier cancelled) {
+        this.delegate = delegate;
+        this.rowsRead = rowsRead;
+        this.cancelled = cancelled;
+    }
+
+    @Override
+    public List<String> getHeaders() {
+        return delegate.getHeaders();
+    }
+
+    @Override
+    public List<Function<T, Object>> getValueExtractors() {
+        return delegate.getValueExtractors();
+    }
+
+    @Override
+    public List<T> getData(int offset, int limit) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("Exportación cancelada");
+        }
+        List<T> data = delegate.getData(offset, limit);
+        rowsRead.accept(data.size());
+        return data;
+    }
+
+    @Override
+    public int getTotalCount() {
+        return delegate.getTotalCount();
+    }
+
+    @Override
+    public boolean supportsRandomAccess() {
+        return delegate.supportsRandomAccess();
+    }
+
+    /**
+     * Divide el proveedor original y envuelve cada tramo, de modo que todos informan el avance y
+     * consultan la cancelación de la misma exportación.
+     */
+    @Override
+    public List<ExportDataProvider<T>> split(int partSize) {
+        List<ExportDataProvider<T>> parts = delegate.split(partSize);
+        if (parts.size() == 1 && parts.get(0) == delegate) {
+            return List.of(this);
+        }
+        return parts.stream()
+                .<ExportDataProvider<T>>map(part -> new ProgressTrackingExportDataProvider<>(part, rowsRead, cancelled))
+                .toList();
+    }
+}
@@ -0,0 +1,59 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Flujo que reserva en un {@link ExportResultCache} el espacio de los bytes antes de escribirlos.
+ * <p>
+ * La reserva crece en tramos de 1 MB para no sincronizar la caché en cada escritura; cerca del límite
+ * se reserva solo lo necesario. Si el presupuesto no admite los bytes siguientes, la escritura falla
+ * con {@link IllegalStateException} antes de llegar al flujo subyacente.
+ * </p>
+ */
+class ReservingOutputStream extends FilterOutputStream {
+
+    private static final long STEP = 1024 * 1024;
+
+    private final ExportResultCache.Reservation reservation;
+
+    private long written;
+    private long reserved;
+
+    ReservingOutputStream(OutputStream out, ExportResultCache.Reservation reservation) {
+        super(out);
+        this.reservation = reservation;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureReserved(1);
+        out.write(b);
+        written++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureReserved(len);
+        out.write(b, off, len);
+        written += len;
+    }
+
+    private void ensureReserved(int len) {
+        long missing = written + len - reserved;
+        if (missing <= 0) {
+            return;
+        }
+        try {
+            reservation.grow(Math.max(STEP, missing));
+            reserved += Math.max(STEP, missing);
+        } catch (IllegalStateException e) {
+            if (missing >= STEP) {
+                throw e;
+            }
+            reservation.grow(missing);
+            reserved += missing;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * ExportDataProvider que consume de forma perezosa un {@link Stream} de datos,
+ * típicamente respaldado por un cursor del lado del servidor.
+ * <p>
+ * Cada llamada a {@link #getData(int, int)} toma los siguientes elementos del iterador, de modo
+ * que en memoria solo se mantiene el bloque en curso. El flujo debe permanecer abierto (y, si
+ * proviene de JPA, dentro de su transacción) mientras dure la exportación; su cierre corresponde
+ * a quien lo creó.
+ * </p>
+ *
+ * <p>Solo admite lectura secuencial, que es como recorren los datos los exportadores.</p>
+ *
+ * @param <T> Tipo de dato a exportar.
+ */
+public class StreamExportDataProvider<T> implements ExportDataProvider<T> {
+
+    private final Iterator<T> iterator;
+    private final LongSupplier countSupplier;
+    private final List<String> headers;
+    private final List<Function<T, Object>> valueExtractors;
+
+    private int nextOffset = 0;
+    private int totalCount = -1;
+
+    /**
+     * Crea un proveedor sobre un flujo de datos.
+     *
+     * @param stream          flujo de elementos a exportar, en el orden deseado
+     * @param countSupplier   función que devuelve el total de elementos a exportar
+     * @param headers         lista de encabezados de columna
+     * @param valueExtractors funciones para extraer los valores de cada columna
+     */
+    public StreamExportDataProvider(Stream<T> stream,
+                                    LongSupplier countSupplier,
+                                    List<String> headers,
+                                    List<Function<T, Object>> valueExtractors) {
+        this.iterator = stream.iterator();
+        this.countSupplier = countSupplier;
+        this.headers = headers;
+        this.valueExtractors = valueExtractors;
+    }
+
+    @Override
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public List<Function<T, Object>> getValueExtractors() {
+        return valueExtractors;
+    }
+
+    /**
+     * Obtiene los siguientes elementos del flujo.
+     *
+     * @param offset posición inicial (debe coincidir con el final del bloque anterior).
+     * @param limit  cantidad máxima de registros.
+     * @return lista de datos.
+     * @throws IllegalStateException si se solicita un bloque fuera de orden.
+     */
+    @Override
+    public List<T> getData(int offset, int limit) {
+        if (offset != nextOffset) {
+            throw new IllegalStateException(
+                    "La lectura desde un flujo solo admite acceso secuencial (esperado offset "
+                            + nextOffset + ", recibido " + offset + ")");
+        }
+        nextOffset = offset + limit;
+
+        List<T> chunk = new ArrayList<>(limit);
+        while (chunk.size() < limit && iterator.hasNext()) {
+            chunk.add(iterator.next());
+        }
+        return chunk;
+    }
+
+    /**
+     * Obtiene el total de registros. Se calcula una sola vez.
+     */
+    @Override
+    public int getTotalCount() {
+        if (totalCount == -1) {
+            totalCount = (int) countSupplier.getAsLong();
+        }
+        return totalCount;
+    }
+
+    /**
+     * Los bloques deben leerse en orden: el flujo solo puede recorrerse una vez.
+     *
+     * @return siempre {@code false}
+     */
+    @Override
+    public boolean supportsRandomAccess() {
+        return false;
+    }
+}
@@ -0,0 +1,42 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Exportación preparada para escribirse en streaming sobre un flujo de salida.
+ * <p>
+ * Contiene los metadatos de la respuesta (nombre de archivo y tipo de contenido) y la
+ * acción que genera el archivo. La generación no comienza hasta invocar {@link #writeTo(OutputStream)}.
+ * </p>
+ *
+ * @param filename    nombre sugerido para el archivo descargado
+ * @param contentType tipo MIME del archivo generado
+ * @param writer      acción que escribe la exportación en el flujo recibido
+ */
+public record StreamingExport(String filename, String contentType, ExportWriter writer) {
+
+    /**
+     * Acción que escribe el contenido de una exportación en un flujo de salida.
+     */
+    @FunctionalInterface
+    public interface ExportWriter {
+        void write(OutputStream out) throws Exception;
+    }
+
+    /**
+     * Genera la exportación sobre el flujo indicado.
+     *
+     * @param out flujo de salida (por ejemplo, el cuerpo de la respuesta HTTP)
+     * @throws IOException si falla la escritura o la generación del archivo
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        try {
+            writer.write(out);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Error generando la exportación en streaming", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import java.io.OutputStream;
+
+/**
+ * Estrategia de exportación capaz de escribir el resultado directamente sobre un
+ * {@link OutputStream}, sin construir el archivo completo en memoria.
+ * <p>
+ * Las filas se obtienen por bloques desde el {@link ExportDataProvider} y se codifican
+ * a medida que se leen, por lo que el consumo de memoria no depende del número de registros.
+ * </p>
+ *
+ * @param <T> Tipo de dato a exportar.
+ */
+public interface StreamingExportStrategy<T> extends ExportStrategy<T> {
+
+    /**
+     * Escribe la exportación en el flujo de salida indicado.
+     * <p>
+     * El flujo no se cierra al terminar; su ciclo de vida pertenece a quien lo proporciona.
+     * </p>
+     *
+     * @param provider proveedor de datos para exportar.
+     * @param out      flujo de salida donde se escribe el archivo generado.
+     * @throws Exception en caso de error durante la exportación.
+     */
+    void exportTo(ExportDataProvider<T> provider, OutputStream out) throws Exception;
+}
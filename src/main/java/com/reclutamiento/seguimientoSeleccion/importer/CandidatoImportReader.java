@@ -0,0 +1,27 @@
+package com.reclutamiento.seguimientoSeleccion.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Lector de un archivo de importación de candidatos (CSV, XLSX o JSON).
+ * <p>
+ * Recorre el origen una sola vez y entrega cada fila como un objeto JSON cuyas claves son los nombres
+ * de los campos de {@link com.reclutamiento.seguimientoSeleccion.dto.CandidatoCreateDTO}, junto con el
+ * número de fila en el archivo para reportar errores. Las filas no se acumulan en memoria.
+ * </p>
+ */
+@FunctionalInterface
+public interface CandidatoImportReader {
+
+    /**
+     * Lee todas las filas del origen.
+     *
+     * @param rows receptor de cada fila y su número (base 1, tal como se ve en el archivo)
+     * @throws IOException              si falla la lectura del origen
+     * @throws IllegalArgumentException si el archivo no tiene el formato esperado
+     */
+    void read(ObjIntConsumer<JsonNode> rows) throws IOException;
+}
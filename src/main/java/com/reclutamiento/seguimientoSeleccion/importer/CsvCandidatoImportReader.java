@@ -0,0 +1,154 @@
+package com.reclutamiento.seguimientoSeleccion.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Lector de archivos CSV de candidatos (UTF-8, con o sin BOM).
+ * <p>
+ * La primera fila contiene los encabezados. El separador es la coma o el punto y coma, según cuál
+ * aparezca más en la fila de encabezados (Excel en español guarda los CSV con punto y coma). Admite
+ * valores entre comillas dobles con comillas escapadas ({@code ""}) y saltos de línea, igual que los
+ * CSV generados por {@link com.reclutamiento.seguimientoSeleccion.export.CsvExporter}.
+ * </p>
+ */
+public class CsvCandidatoImportReader implements CandidatoImportReader {
+
+    private static final int BOM = '\uFEFF';
+    private static final int HEADER_PEEK = 64 * 1024;
+
+    private final InputStream input;
+
+    /**
+     * @param input contenido del archivo; no se cierra
+     */
+    public CsvCandidatoImportReader(InputStream input) {
+        this.input = input;
+    }
+
+    @Override
+    public void read(ObjIntConsumer<JsonNode> rows) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        reader.mark(1);
+        if (reader.read() != BOM) {
+            reader.reset();
+        }
+
+        char separator = detectSeparator(reader);
+        Parser parser = new Parser(reader, separator);
+
+        List<String> headers = parser.nextRecord();
+        if (headers == null) {
+            throw new IllegalArgumentException("El archivo CSV está vacío");
+        }
+        ImportColumns columns = ImportColumns.fromHeaders(headers);
+
+        List<String> record;
+        while ((record = parser.nextRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            rows.accept(columns.toNode(record), parser.recordLine);
+        }
+    }
+
+    private static char detectSeparator(BufferedReader reader) throws IOException {
+        reader.mark(HEADER_PEEK);
+        String header = reader.readLine();
+        reader.reset();
+        if (header == null) {
+            return ',';
+        }
+        long commas = header.chars().filter(c -> c == ',').count();
+        long semicolons = header.chars().filter(c -> c == ';').count();
+        return semicolons > commas ? ';' : ',';
+    }
+
+    /**
+     * Analizador de registros CSV según RFC 4180.
+     */
+    private static final class Parser {
+
+        private final BufferedReader reader;
+        private final char separator;
+        private final StringBuilder value = new StringBuilder();
+
+        /**
+         * Línea actual del archivo (base 1) y línea donde comenzó el último registro leído.
+         */
+        private int line = 1;
+        private int recordLine;
+
+        private Parser(BufferedReader reader, char separator) {
+            this.reader = reader;
+            this.separator = separator;
+        }
+
+        /**
+         * Lee el siguiente registro.
+         *
+         * @return valores del registro, o {@code null} al final del archivo
+         */
+        private List<String> nextRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            List<String> record = new ArrayList<>();
+            value.setLength(0);
+            boolean quoted = false;
+
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("Comillas sin cerrar en el registro de la línea " + recordLine);
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            value.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        value.append((char) c);
+                    }
+                } else if (c == '"' && value.isEmpty()) {
+                    quoted = true;
+                } else if (c == separator) {
+                    record.add(value.toString());
+                    value.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    if (c != -1) {
+                        line++;
+                    }
+                    record.add(value.toString());
+                    return record;
+                } else {
+                    value.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.reclutamiento.seguimientoSeleccion.importer;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.reclutamiento.seguimientoSeleccion.dto.CandidatoCreateDTO;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Correspondencia entre los encabezados de un archivo tabular (CSV o XLSX) y los campos de
+ * {@link CandidatoCreateDTO}.
+ * <p>
+ * Los encabezados se comparan sin distinguir mayúsculas, tildes, espacios ni guiones, de modo que
+ * {@code "Fecha Nacimiento"}, {@code fecha_nacimiento} y {@code fechaNacimiento} son equivalentes.
+ * Las columnas que no corresponden a ningún campo se ignoran.
+ * </p>
+ */
+final class ImportColumns {
+
+    /**
+     * Campo del DTO por encabezado normalizado.
+     */
+    private static final Map<String, String> FIELDS = new HashMap<>();
+
+    static {
+        for (Field field : CandidatoCreateDTO.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                FIELDS.put(normalize(field.getName()), field.getName());
+            }
+        }
+        FIELDS.put("correo", "email");
+        FIELDS.put("correoelectronico", "email");
+        FIELDS.put("documento", "documentoIdentidad");
+        FIELDS.put("pais", "paisResidencia");
+        FIELDS.put("ciudad", "ciudadResidencia");
+        FIELDS.put("linkedin", "linkedinUrl");
+    }
+
+    /**
+     * Campo del DTO de cada columna, o {@code null} si la columna se ignora.
+     */
+    private final List<String> fields;
+
+    private ImportColumns(List<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Interpreta la fila de encabezados.
+     *
+     * @param headers encabezados en el orden de las columnas
+     * @return correspondencia de columnas
+     * @throws IllegalArgumentException si ningún encabezado corresponde a un campo del candidato
+     */
+    static ImportColumns fromHeaders(List<String> headers) {
+        List<String> fields = new ArrayList<>(headers.size());
+        boolean any = false;
+        for (String header : headers) {
+            String field = header != null ? FIELDS.get(normalize(header)) : null;
+            fields.add(field);
+            any |= field != null;
+        }
+        if (!any) {
+            throw new IllegalArgumentException("La primera fila del archivo debe contener los encabezados de los campos del candidato");
+        }
+        return new ImportColumns(fields);
+    }
+
+    /**
+     * Convierte los valores de una fila en un objeto JSON con los campos del DTO. Las celdas vacías se omiten.
+     *
+     * @param values valores en el orden de las columnas; puede tener menos elementos que encabezados
+     * @return objeto con los valores de los campos reconocidos
+     */
+    ObjectNode toNode(List<String> values) {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        int count = Math.min(values.size(), fields.size());
+        for (int i = 0; i < count; i++) {
+            String field = fields.get(i);
+            String value = values.get(i);
+            if (field != null && value != null && !value.isBlank()) {
+                node.put(field, value.trim());
+            }
+        }
+        return node;
+    }
+
+    private static String normalize(String header) {
+        String plain = Normalizer.normalize(header, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return plain.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,54 @@
+package com.reclutamiento.seguimientoSeleccion.importer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Lector de un arreglo JSON de candidatos con la misma forma que el cuerpo de {@code POST /api/candidatos}.
+ * <p>
+ * El arreglo se recorre elemento por elemento con el {@link JsonParser} de Jackson, sin cargarlo completo
+ * en memoria. El número de fila es la posición del elemento (base 1).
+ * </p>
+ */
+public class JsonCandidatoImportReader implements CandidatoImportReader {
+
+    private final InputStream input;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param input        contenido del cuerpo de la petición; no se cierra
+     * @param objectMapper mapper de la aplicación
+     */
+    public JsonCandidatoImportReader(InputStream input, ObjectMapper objectMapper) {
+        this.input = input;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void read(ObjIntConsumer<JsonNode> rows) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("El cuerpo debe ser un arreglo JSON de candidatos");
+            }
+            int row = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("El arreglo JSON está incompleto");
+                }
+                row++;
+                JsonNode node = objectMapper.readTree(parser);
+                rows.accept(node, row);
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("El cuerpo no es un JSON válido: " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.reclutamiento.seguimientoSeleccion.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Lector de archivos Excel ({@code .xlsx}) de candidatos.
+ * <p>
+ * Lee la primera hoja con el modelo de eventos SAX de POI ({@link XSSFSheetXMLHandler}), fila por fila,
+ * sin construir el libro en memoria. La primera fila no vacía contiene los encabezados. Las celdas con
+ * formato de fecha se entregan en formato ISO ({@code yyyy-MM-dd}) y los números sin separadores de miles,
+ * por lo que documentos y teléfonos guardados como número se leen tal cual.
+ * </p>
+ */
+public class XlsxCandidatoImportReader implements CandidatoImportReader {
+
+    private final InputStream input;
+
+    /**
+     * @param input contenido del archivo; no se cierra
+     */
+    public XlsxCandidatoImportReader(InputStream input) {
+        this.input = input;
+    }
+
+    @Override
+    public void read(ObjIntConsumer<JsonNode> rows) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(input)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            StylesTable styles = reader.getStylesTable();
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IllegalArgumentException("El archivo Excel no contiene hojas");
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new RowHandler(rows), new IsoDateFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IllegalArgumentException("El archivo Excel no es válido: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Acumula las celdas de cada fila y la entrega al terminarla.
+     */
+    private static final class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final ObjIntConsumer<JsonNode> rows;
+        private final List<String> values = new ArrayList<>();
+        private ImportColumns columns;
+
+        private RowHandler(ObjIntConsumer<JsonNode> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            values.clear();
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : values.size();
+            while (values.size() < column) {
+                values.add(null);
+            }
+            values.add(formattedValue);
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (values.stream().allMatch(v -> v == null || v.isBlank())) {
+                return;
+            }
+            if (columns == null) {
+                columns = ImportColumns.fromHeaders(values);
+            } else {
+                rows.accept(columns.toNode(values), rowNum + 1);
+            }
+        }
+    }
+
+    /**
+     * Formateador que entrega las fechas en ISO y los números sin agrupar, independiente del formato
+     * de la celda y del idioma del equipo donde se creó el archivo.
+     */
+    private static final class IsoDateFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value).toLocalDate().toString();
+            }
+            if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+                return Long.toString((long) value);
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString);
+        }
+    }
+}
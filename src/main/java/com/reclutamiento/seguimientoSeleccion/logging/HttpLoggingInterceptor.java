@@ -7,7 +7,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Interceptor que registra detalles de cada solicitud HTTP entrante y su ejecución.
@@ -29,7 +29,7 @@ public class HttpLoggingInterceptor implements HandlerInterceptor {
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        request.setAttribute(START_TIME_ATTRIBUTE, Instant.now().toEpochMilli());
+        request.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
 
         String method = request.getMethod();
         String uri = request.getRequestURI();
@@ -46,7 +46,7 @@ public class HttpLoggingInterceptor implements HandlerInterceptor {
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
         long startTime = (long) request.getAttribute(START_TIME_ATTRIBUTE);
-        long duration = Instant.now().toEpochMilli() - startTime;
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
 
         String method = request.getMethod();
         String uri = request.getRequestURI();
@@ -18,10 +18,24 @@ import java.lang.annotation.*;
  *
  * <p>Debe estar respaldada por un aspecto que implemente la lógica de logging.</p>
  *
+ * <p>
+ * La anotación a nivel de método tiene prioridad sobre la de la clase. Con {@link #sampleRate()}
+ * se puede registrar solo una fracción de las invocaciones de métodos muy frecuentes; los
+ * errores se registran siempre.
+ * </p>
+ *
  * @see com.reclutamiento.seguimientoSeleccion.logging.LoggingAspect
  */
 @Documented
 @Target({ElementType.METHOD, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Loggable {
+
+    /**
+     * Fracción de invocaciones cuya entrada y salida se registran, entre {@code 0.0} y {@code 1.0}.
+     * Por defecto se registran todas.
+     *
+     * @return tasa de muestreo
+     */
+    double sampleRate() default 1.0;
 }
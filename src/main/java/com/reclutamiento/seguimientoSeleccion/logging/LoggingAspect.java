@@ -6,12 +6,15 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Aspecto responsable de registrar automáticamente la ejecución de métodos
@@ -26,6 +29,12 @@ import java.util.Map;
  *     <li>Resultado del método (con datos sensibles ofuscados si aplica)</li>
  * </ul>
  *
+ * <p>
+ * Los argumentos y el resultado se convierten a texto de forma diferida, solo si el nivel
+ * correspondiente (INFO o DEBUG) está habilitado y la invocación fue elegida según
+ * {@link Loggable#sampleRate()}. Con el logging desactivado el aspecto solo mide el tiempo.
+ * </p>
+ *
  * @see Loggable
  */
 @Aspect
@@ -34,43 +43,79 @@ public class LoggingAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggingAspect.class);
 
+    /**
+     * Tasa de muestreo efectiva por método, resuelta una sola vez.
+     */
+    private final Map<Method, Double> sampleRates = new ConcurrentHashMap<>();
+
     @Around("@annotation(com.reclutamiento.seguimientoSeleccion.logging.Loggable) || " +
             "@within(com.reclutamiento.seguimientoSeleccion.logging.Loggable)")
     public Object logExecution(ProceedingJoinPoint joinPoint) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         Method method = signature.getMethod();
 
-        String className = signature.getDeclaringType().getSimpleName();
-        String methodName = method.getName();
-        Object[] args = joinPoint.getArgs();
-
-        String argList = Arrays.stream(args)
-                .map(this::maskIfApplicable)
-                .reduce((a, b) -> a + ", " + b)
-                .orElse("");
-
-        logger.info("➡️  Ejecutando {}.{}({})", className, methodName, argList);
+        boolean sampled = isSampled(method, signature.getDeclaringType());
+        boolean logInfo = sampled && logger.isInfoEnabled();
+
+        if (logInfo) {
+            Object[] args = joinPoint.getArgs();
+            logger.atInfo()
+                    .setMessage("➡️  Ejecutando {}.{}({})")
+                    .addArgument(signature.getDeclaringType().getSimpleName())
+                    .addArgument(method.getName())
+                    .addArgument(() -> renderArguments(args))
+                    .log();
+        }
 
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         try {
             Object result = joinPoint.proceed();
-            long elapsed = System.currentTimeMillis() - startTime;
 
-            logger.info("✅ {}.{} completado en {} ms", className, methodName, elapsed);
+            if (logInfo) {
+                logger.info("✅ {}.{} completado en {} ms",
+                        signature.getDeclaringType().getSimpleName(), method.getName(), elapsedMillis(startTime));
+            }
 
-            if (!signature.getReturnType().equals(void.class)) {
-                String resultLog = maskIfApplicable(result);
-                logger.debug("🔁 Resultado: {}", resultLog);
+            if (sampled && logger.isDebugEnabled() && !signature.getReturnType().equals(void.class)) {
+                logger.atDebug()
+                        .setMessage("🔁 Resultado: {}")
+                        .addArgument(() -> maskIfApplicable(result))
+                        .log();
             }
 
             return result;
         } catch (Throwable ex) {
-            long elapsed = System.currentTimeMillis() - startTime;
-            logger.error("❌ Error en {}.{} después de {} ms: {}", className, methodName, elapsed, ex.getMessage(), ex);
+            logger.error("❌ Error en {}.{} después de {} ms: {}",
+                    signature.getDeclaringType().getSimpleName(), method.getName(), elapsedMillis(startTime),
+                    ex.getMessage(), ex);
             throw ex;
         }
     }
 
+    /**
+     * Decide si la invocación actual se registra, según la tasa de muestreo del método o de su clase.
+     */
+    private boolean isSampled(Method method, Class<?> declaringType) {
+        double rate = sampleRates.computeIfAbsent(method, m -> {
+            Loggable loggable = AnnotationUtils.findAnnotation(m, Loggable.class);
+            if (loggable == null) {
+                loggable = AnnotationUtils.findAnnotation(declaringType, Loggable.class);
+            }
+            return loggable != null ? loggable.sampleRate() : 1.0;
+        });
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private String renderArguments(Object[] args) {
+        StringBuilder sb = new StringBuilder();
+        appendAll(sb, args);
+        return sb.toString();
+    }
+
     /**
      * Aplica el enmascaramiento si el objeto es un DTO, una colección/mapa de DTOs o un array.
      *
@@ -78,38 +123,47 @@ public class LoggingAspect {
      * @return representación en texto del objeto (con campos sensibles ocultos si aplica)
      */
     private String maskIfApplicable(Object obj) {
-        if (obj == null) return "null";
-
-        if (SensitiveFieldMasker.isDto(obj)) {
-            return SensitiveFieldMasker.mask(obj);
-        }
-
-        if (obj instanceof Collection<?> collection) {
-            return collection.stream()
-                    .map(this::maskIfApplicable)
-                    .reduce((a, b) -> a + ", " + b)
-                    .map(str -> "[" + str + "]")
-                    .orElse("[]");
-        }
+        StringBuilder sb = new StringBuilder();
+        appendMasked(sb, obj);
+        return sb.toString();
+    }
 
-        if (obj instanceof Map<?, ?> map) {
-            StringBuilder sb = new StringBuilder("{");
-            map.forEach((k, v) -> sb.append(k).append("=").append(maskIfApplicable(v)).append(", "));
-            if (sb.lastIndexOf(", ") == sb.length() - 2) {
-                sb.setLength(sb.length() - 2);
+    private void appendMasked(StringBuilder sb, Object obj) {
+        if (obj == null) {
+            sb.append("null");
+        } else if (SensitiveFieldMasker.isDto(obj)) {
+            sb.append(SensitiveFieldMasker.mask(obj));
+        } else if (obj instanceof Collection<?> collection) {
+            sb.append('[');
+            appendAll(sb, collection.toArray());
+            sb.append(']');
+        } else if (obj instanceof Map<?, ?> map) {
+            sb.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(entry.getKey()).append('=');
+                appendMasked(sb, entry.getValue());
+                first = false;
             }
-            sb.append("}");
-            return sb.toString();
+            sb.append('}');
+        } else if (obj instanceof Object[] array) {
+            sb.append('[');
+            appendAll(sb, array);
+            sb.append(']');
+        } else {
+            sb.append(obj);
         }
+    }
 
-        if (obj.getClass().isArray()) {
-            return Arrays.stream((Object[]) obj)
-                    .map(this::maskIfApplicable)
-                    .reduce((a, b) -> a + ", " + b)
-                    .map(str -> "[" + str + "]")
-                    .orElse("[]");
+    private void appendAll(StringBuilder sb, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            appendMasked(sb, values[i]);
         }
-
-        return String.valueOf(obj);
     }
 }
@@ -1,18 +1,39 @@
 package com.reclutamiento.seguimientoSeleccion.logging;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.*;
 
 /**
  * Utilidad para generar una representación en texto de un objeto,
  * ocultando los valores de campos marcados como sensibles mediante la anotación {@link Sensitive}.
  * Compatible con DTOs, listas, mapas y estructuras anidadas simples.
+ * <p>
+ * La reflexión se hace una sola vez por clase: el primer uso compila un {@link MaskingPlan} con un
+ * {@link MethodHandle} de lectura por campo y la marca de sensibilidad ya resuelta, que se guarda
+ * en un {@link ClassValue}. Las llamadas siguientes solo leen los campos y concatenan texto.
+ * </p>
  */
 public class SensitiveFieldMasker {
 
     private static final String MASK = "***";
     private static final String DTO_PACKAGE = "com.reclutamiento.seguimientoSeleccion.dto";
 
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Plan de enmascaramiento compilado por clase de DTO.
+     */
+    private static final ClassValue<MaskingPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected MaskingPlan computeValue(Class<?> type) {
+            return MaskingPlan.compile(type);
+        }
+    };
+
     /**
      * Genera una representación en texto del objeto, ocultando campos marcados como {@link Sensitive}.
      * Recorre recursivamente listas y objetos DTO anidados, previniendo ciclos.
@@ -21,65 +42,49 @@ public class SensitiveFieldMasker {
      * @return texto con los valores sensibles enmascarados
      */
     public static String mask(Object obj) {
-        return mask(obj, new IdentityHashMap<>());
-    }
-
-    private static String mask(Object obj, Map<Object, Boolean> visited) {
-        if (obj == null) return "null";
-        if (visited.containsKey(obj)) return "(circular)";
-        visited.put(obj, true);
-
-        if (obj instanceof Collection<?> collection) {
-            return maskCollection(collection, visited);
+        if (!isDto(obj) && !(obj instanceof Collection<?>)) {
+            return String.valueOf(obj);
         }
+        StringBuilder sb = new StringBuilder(128);
+        append(sb, obj, Collections.newSetFromMap(new IdentityHashMap<>()));
+        return sb.toString();
+    }
 
-        if (!isDto(obj)) return String.valueOf(obj);
-
-        Class<?> clazz = obj.getClass();
-        StringBuilder sb = new StringBuilder(clazz.getSimpleName()).append("{");
-
-        Field[] fields;
-        try {
-            fields = clazz.getDeclaredFields();
-        } catch (SecurityException e) {
-            return clazz.getSimpleName() + "{<acceso denegado>}";
+    /**
+     * Agrega la representación del objeto al texto. Solo los DTOs y las colecciones pueden formar
+     * ciclos, por lo que son los únicos objetos registrados en {@code path} mientras se recorren.
+     */
+    private static void append(StringBuilder sb, Object obj, Set<Object> path) {
+        boolean collection = obj instanceof Collection<?>;
+        if (!collection && !isDto(obj)) {
+            sb.append(obj);
+            return;
         }
-
-        for (Field field : fields) {
-            // Se fuerza el acceso para leer campos privados en DTOs
-            field.setAccessible(true);
-            try {
-                Object value = field.get(obj);
-                sb.append(field.getName()).append("=");
-                if (field.isAnnotationPresent(Sensitive.class)) {
-                    sb.append(MASK);
-                } else {
-                    sb.append(mask(value, visited));
-                }
-                sb.append(", ");
-            } catch (IllegalAccessException e) {
-                sb.append(field.getName()).append("=ERROR, ");
-            }
+        if (!path.add(obj)) {
+            sb.append("(circular)");
+            return;
         }
 
-        if (sb.toString().endsWith(", ")) {
-            sb.setLength(sb.length() - 2); // Elimina la coma final
+        if (collection) {
+            appendCollection(sb, (Collection<?>) obj, path);
+        } else {
+            PLANS.get(obj.getClass()).appendTo(sb, obj, path);
         }
 
-        sb.append("}");
-        return sb.toString();
+        path.remove(obj);
     }
 
-    private static String maskCollection(Collection<?> collection, Map<Object, Boolean> visited) {
-        StringBuilder sb = new StringBuilder("[");
+    private static void appendCollection(StringBuilder sb, Collection<?> collection, Set<Object> path) {
+        sb.append('[');
+        boolean first = true;
         for (Object item : collection) {
-            sb.append(mask(item, visited)).append(", ");
-        }
-        if (sb.toString().endsWith(", ")) {
-            sb.setLength(sb.length() - 2);
+            if (!first) {
+                sb.append(", ");
+            }
+            append(sb, item, path);
+            first = false;
         }
-        sb.append("]");
-        return sb.toString();
+        sb.append(']');
     }
 
     /**
@@ -91,4 +96,66 @@ public class SensitiveFieldMasker {
     public static boolean isDto(Object obj) {
         return obj != null && obj.getClass().getName().startsWith(DTO_PACKAGE);
     }
+
+    /**
+     * Lectura precompilada de un campo de instancia.
+     *
+     * @param prefix texto previo al valor ({@code "nombre="} o {@code ", nombre="})
+     * @param getter lector del campo con tipo {@code (Object)Object}, o {@code null} si el campo es sensible
+     */
+    private record FieldAccessor(String prefix, MethodHandle getter) {
+    }
+
+    /**
+     * Forma de imprimir una clase de DTO: nombre simple y lectores de sus campos de instancia en orden de declaración.
+     */
+    private record MaskingPlan(String header, FieldAccessor[] fields, boolean accessDenied) {
+
+        static MaskingPlan compile(Class<?> type) {
+            String header = type.getSimpleName() + "{";
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+                List<FieldAccessor> accessors = new ArrayList<>();
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+                    String prefix = (accessors.isEmpty() ? "" : ", ") + field.getName() + "=";
+                    MethodHandle getter = field.isAnnotationPresent(Sensitive.class)
+                            ? null
+                            : lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                    accessors.add(new FieldAccessor(prefix, getter));
+                }
+                return new MaskingPlan(header, accessors.toArray(FieldAccessor[]::new), false);
+            } catch (IllegalAccessException | SecurityException e) {
+                return new MaskingPlan(header, new FieldAccessor[0], true);
+            }
+        }
+
+        void appendTo(StringBuilder sb, Object obj, Set<Object> path) {
+            sb.append(header);
+            if (accessDenied) {
+                sb.append("<acceso denegado>}");
+                return;
+            }
+            for (FieldAccessor field : fields) {
+                sb.append(field.prefix());
+                if (field.getter() == null) {
+                    sb.append(MASK);
+                    continue;
+                }
+                Object value;
+                try {
+                    value = (Object) field.getter().invokeExact(obj);
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    sb.append("ERROR");
+                    continue;
+                }
+                append(sb, value, path);
+            }
+            sb.append('}');
+        }
+    }
 }
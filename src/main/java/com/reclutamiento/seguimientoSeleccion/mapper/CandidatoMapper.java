@@ -1,12 +1,17 @@
 package com.reclutamiento.seguimientoSeleccion.mapper;
 
 import com.reclutamiento.seguimientoSeleccion.dto.*;
+import com.reclutamiento.seguimientoSeleccion.enums.EstadoCandidato;
+import com.reclutamiento.seguimientoSeleccion.enums.Genero;
+import com.reclutamiento.seguimientoSeleccion.enums.NivelEducativo;
+import com.reclutamiento.seguimientoSeleccion.enums.TipoDocumento;
 import com.reclutamiento.seguimientoSeleccion.model.Candidato;
+import com.reclutamiento.seguimientoSeleccion.repository.CandidatoMatch;
 import org.mapstruct.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
+import com.reclutamiento.seguimientoSeleccion.util.EnumLabelCatalog;
 import org.springframework.context.i18n.LocaleContextHolder;
-import static com.reclutamiento.seguimientoSeleccion.util.EnumLabelUtil.getLabel;
 import java.time.format.DateTimeFormatter;
 
 /**
@@ -17,6 +22,11 @@ import java.time.format.DateTimeFormatter;
 @Mapper(componentModel = "spring")
 public abstract class CandidatoMapper {
 
+    /**
+     * Formato de las fechas de auditoría. {@link DateTimeFormatter} es inmutable y seguro para uso concurrente.
+     */
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     /**
      * Fuente de mensajes para internacionalización de etiquetas (labels).
      */
@@ -24,42 +34,84 @@ public abstract class CandidatoMapper {
     protected MessageSource messageSource;
 
     /**
-     * Convierte un DTO de creación en una entidad {@link Candidato}.
+     * Catálogo precalculado de etiquetas localizadas de los enums.
+     */
+    @Autowired
+    protected EnumLabelCatalog labelCatalog;
+
+    /**
+     * Convierte un DTO de creación en una entidad {@link Candidato}. El estado y la fecha de
+     * registro se asignan al persistir la entidad.
      *
      * @param dto DTO con los datos de creación del candidato.
      * @return Entidad {@link Candidato} correspondiente.
      */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "estado", ignore = true)
+    @Mapping(target = "fechaRegistro", ignore = true)
     public abstract Candidato toEntity(CandidatoCreateDTO dto);
 
     /**
-     * Convierte una entidad {@link Candidato} a un DTO de respuesta.
+     * Convierte una entidad {@link Candidato} a un DTO de respuesta. Las etiquetas y los datos de
+     * auditoría se completan en {@link #fillLabels(Candidato, CandidatoResponseDTO)}.
      *
      * @param candidato Entidad del candidato.
      * @return DTO con la información del candidato para respuestas.
      */
+    @Mapping(target = "estadoLabel", ignore = true)
+    @Mapping(target = "generoLabel", ignore = true)
+    @Mapping(target = "tipoDocumentoLabel", ignore = true)
+    @Mapping(target = "nivelEducativoLabel", ignore = true)
+    @Mapping(target = "creadoPor", ignore = true)
+    @Mapping(target = "fechaCreacion", ignore = true)
+    @Mapping(target = "modificadoPor", ignore = true)
+    @Mapping(target = "fechaModificacion", ignore = true)
     public abstract CandidatoResponseDTO toDTO(Candidato candidato);
 
+    /**
+     * Convierte un resultado de la búsqueda aproximada en su DTO de respuesta.
+     *
+     * @param match Proyección con las columnas del candidato y su puntaje.
+     * @return DTO con el candidato encontrado y la etiqueta de su estado.
+     */
+    @Mapping(target = "estadoLabel", ignore = true)
+    public abstract CandidatoMatchDTO toMatchDTO(CandidatoMatch match);
+
     /**
      * Actualiza una entidad {@link Candidato} existente con los valores de un DTO de actualización.
+     * No modifica el ID, la fecha de registro ni los datos de auditoría.
      *
      * @param dto    DTO con los nuevos valores.
      * @param entity Entidad a actualizar.
      */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "fechaRegistro", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "modifiedBy", ignore = true)
     public abstract void updateEntityFromDto(CandidatoUpdateDTO dto, @MappingTarget Candidato entity);
 
     /**
      * Actualiza parcialmente una entidad {@link Candidato} con un DTO de tipo PATCH,
-     * ignorando los campos nulos.
+     * ignorando los campos nulos. No modifica el ID, la fecha de registro ni los datos de auditoría.
      *
      * @param dto    DTO con los campos a actualizar.
      * @param entity Entidad a actualizar.
      */
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "fechaRegistro", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "modifiedBy", ignore = true)
     public abstract void patchEntityFromDto(CandidatoPatchDTO dto, @MappingTarget Candidato entity);
 
     /**
      * Método ejecutado después del mapeo principal para completar los campos derivados (labels)
-     * de los enums utilizando la internacionalización.
+     * de los enums utilizando la internacionalización. Las etiquetas se obtienen del
+     * {@link EnumLabelCatalog}, sin consultar el {@link MessageSource} por cada fila.
      *
      * @param candidato Entidad original.
      * @param dto       DTO resultante donde se asignan los labels.
@@ -71,33 +123,31 @@ public abstract class CandidatoMapper {
         var locale = LocaleContextHolder.getLocale();
 
         if (candidato.getEstado() != null) {
-            dto.setEstadoLabel(getLabel(candidato.getEstado(), messageSource, locale));
+            dto.setEstadoLabel(labelCatalog.getLabel(candidato.getEstado(), locale));
             dto.setEstado(candidato.getEstado().name());
         }
 
         if (candidato.getGenero() != null) {
-            dto.setGeneroLabel(getLabel(candidato.getGenero(), messageSource, locale));
+            dto.setGeneroLabel(labelCatalog.getLabel(candidato.getGenero(), locale));
             dto.setGenero(candidato.getGenero().name());
         }
 
         if (candidato.getTipoDocumento() != null) {
-            dto.setTipoDocumentoLabel(getLabel(candidato.getTipoDocumento(), messageSource, locale));
+            dto.setTipoDocumentoLabel(labelCatalog.getLabel(candidato.getTipoDocumento(), locale));
             dto.setTipoDocumento(candidato.getTipoDocumento().name());
         }
 
         if (candidato.getNivelEducativo() != null) {
-            dto.setNivelEducativoLabel(getLabel(candidato.getNivelEducativo(), messageSource, locale));
+            dto.setNivelEducativoLabel(labelCatalog.getLabel(candidato.getNivelEducativo(), locale));
             dto.setNivelEducativo(candidato.getNivelEducativo().name());
         }
 
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
         if (candidato.getCreatedBy() != null) {
             dto.setCreadoPor(candidato.getCreatedBy());
         }
 
         if (candidato.getCreatedAt() != null) {
-            dto.setFechaCreacion(dateTimeFormatter.format(candidato.getCreatedAt()));
+            dto.setFechaCreacion(DATE_TIME_FORMATTER.format(candidato.getCreatedAt()));
         }
 
         if (candidato.getModifiedBy() != null) {
@@ -105,7 +155,7 @@ public abstract class CandidatoMapper {
         }
 
         if (candidato.getUpdatedAt() != null) {
-            dto.setFechaModificacion(dateTimeFormatter.format(candidato.getUpdatedAt()));
+            dto.setFechaModificacion(DATE_TIME_FORMATTER.format(candidato.getUpdatedAt()));
         }
 
     }
@@ -120,4 +170,43 @@ public abstract class CandidatoMapper {
     private String getMessage(String key, java.util.Locale locale) {
         return messageSource.getMessage(key, null, key, locale);
     }
+
+    /**
+     * Completa la etiqueta localizada del estado de un resultado de la búsqueda aproximada.
+     *
+     * @param match Proyección original.
+     * @param dto   DTO resultante donde se asigna el label.
+     */
+    @AfterMapping
+    protected void fillMatchLabel(CandidatoMatch match, @MappingTarget CandidatoMatchDTO dto) {
+        if (match == null || match.getEstado() == null) return;
+        dto.setEstadoLabel(labelCatalog.getLabel(EstadoCandidato.valueOf(match.getEstado()),
+                LocaleContextHolder.getLocale()));
+    }
+
+    /**
+     * Completa las etiquetas localizadas de los enums presentes en un candidato del listado ligero.
+     * Solo se asignan las etiquetas de las columnas que fueron leídas.
+     *
+     * @param dto DTO del listado con las columnas solicitadas.
+     */
+    public void fillSummaryLabels(CandidatoSummaryDTO dto) {
+        var locale = LocaleContextHolder.getLocale();
+
+        if (dto.getEstado() != null) {
+            dto.setEstadoLabel(labelCatalog.getLabel(EstadoCandidato.valueOf(dto.getEstado()), locale));
+        }
+
+        if (dto.getGenero() != null) {
+            dto.setGeneroLabel(labelCatalog.getLabel(Genero.valueOf(dto.getGenero()), locale));
+        }
+
+        if (dto.getTipoDocumento() != null) {
+            dto.setTipoDocumentoLabel(labelCatalog.getLabel(TipoDocumento.valueOf(dto.getTipoDocumento()), locale));
+        }
+
+        if (dto.getNivelEducativo() != null) {
+            dto.setNivelEducativoLabel(labelCatalog.getLabel(NivelEducativo.valueOf(dto.getNivelEducativo()), locale));
+        }
+    }
 }
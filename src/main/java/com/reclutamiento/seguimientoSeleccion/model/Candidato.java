@@ -18,6 +18,12 @@ import java.time.LocalDate;
  * algunos campos relevantes para mejorar el rendimiento en consultas frecuentes.
  * </p>
  *
+ * <p>
+ * Los índices compuestos siguen las combinaciones de filtros de la búsqueda de candidatos: el estado,
+ * presente en casi todas las búsquedas, encabeza los índices con fecha de registro y nivel educativo,
+ * y también resuelve el filtro de estado por sí solo.
+ * </p>
+ *
  * <p>Extiende {@link Auditable} para heredar los campos de auditoría general,
  * y define campos adicionales propios de auditoría explícita como {@code creadoPor} y {@code fechaCreacion}.</p>
  *
@@ -35,7 +41,11 @@ import java.time.LocalDate;
         indexes = {
                 @Index(name = "idx_documento", columnList = "documentoIdentidad"),
                 @Index(name = "idx_email", columnList = "email"),
-                @Index(name = "idx_estado", columnList = "estado")
+                @Index(name = "idx_estado_fecha_registro", columnList = "estado, fechaRegistro"),
+                @Index(name = "idx_estado_nivel_educativo", columnList = "estado, nivelEducativo"),
+                @Index(name = "idx_pais_ciudad", columnList = "paisResidencia, ciudadResidencia"),
+                @Index(name = "idx_fecha_registro", columnList = "fechaRegistro"),
+                @Index(name = "idx_fecha_nacimiento", columnList = "fechaNacimiento")
         }
 )
 @Getter
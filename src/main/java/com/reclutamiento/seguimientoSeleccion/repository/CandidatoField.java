@@ -0,0 +1,100 @@
+package com.reclutamiento.seguimientoSeleccion.repository;
+
+import com.reclutamiento.seguimientoSeleccion.dto.CandidatoSummaryDTO;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Columnas de {@link com.reclutamiento.seguimientoSeleccion.model.Candidato} que pueden pedirse en el
+ * listado ligero con {@code fields=}.
+ * <p>
+ * Cada columna conoce el atributo de la entidad que se selecciona en la consulta y cómo copiar su valor
+ * al {@link CandidatoSummaryDTO}. Los campos de auditoría no se exponen.
+ * </p>
+ */
+public enum CandidatoField {
+
+    ID("id", (dto, value) -> dto.setId((Long) value)),
+    NOMBRE("nombre", (dto, value) -> dto.setNombre((String) value)),
+    EMAIL("email", (dto, value) -> dto.setEmail((String) value)),
+    TELEFONO("telefono", (dto, value) -> dto.setTelefono((String) value)),
+    TIPO_DOCUMENTO("tipoDocumento", (dto, value) -> dto.setTipoDocumento(name(value))),
+    DOCUMENTO_IDENTIDAD("documentoIdentidad", (dto, value) -> dto.setDocumentoIdentidad((String) value)),
+    PAIS_RESIDENCIA("paisResidencia", (dto, value) -> dto.setPaisResidencia((String) value)),
+    CIUDAD_RESIDENCIA("ciudadResidencia", (dto, value) -> dto.setCiudadResidencia((String) value)),
+    FECHA_NACIMIENTO("fechaNacimiento", (dto, value) -> dto.setFechaNacimiento(text(value))),
+    GENERO("genero", (dto, value) -> dto.setGenero(name(value))),
+    NIVEL_EDUCATIVO("nivelEducativo", (dto, value) -> dto.setNivelEducativo(name(value))),
+    LINKEDIN_URL("linkedinUrl", (dto, value) -> dto.setLinkedinUrl((String) value)),
+    ESTADO("estado", (dto, value) -> dto.setEstado(name(value))),
+    FECHA_REGISTRO("fechaRegistro", (dto, value) -> dto.setFechaRegistro(text(value)));
+
+    private static final Map<String, CandidatoField> BY_PROPERTY = Stream.of(values())
+            .collect(Collectors.toUnmodifiableMap(CandidatoField::getProperty, Function.identity()));
+
+    private final String property;
+    private final BiConsumer<CandidatoSummaryDTO, Object> writer;
+
+    CandidatoField(String property, BiConsumer<CandidatoSummaryDTO, Object> writer) {
+        this.property = property;
+        this.writer = writer;
+    }
+
+    /**
+     * Nombre del atributo de la entidad, que es también el nombre aceptado en {@code fields=}.
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Copia el valor leído de la base de datos al DTO.
+     *
+     * @param dto   DTO de destino
+     * @param value valor de la columna, posiblemente {@code null}
+     */
+    public void write(CandidatoSummaryDTO dto, Object value) {
+        if (value != null) {
+            writer.accept(dto, value);
+        }
+    }
+
+    /**
+     * Convierte los nombres recibidos en {@code fields=} en columnas. El ID se incluye siempre.
+     *
+     * @param names nombres de atributos, por ejemplo {@code nombre} o {@code estado}
+     * @return columnas solicitadas, en el orden de declaración
+     * @throws IllegalArgumentException si algún nombre no es una columna disponible
+     */
+    public static Set<CandidatoField> parse(Collection<String> names) {
+        Set<CandidatoField> fields = EnumSet.of(ID);
+        for (String name : names) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            CandidatoField field = BY_PROPERTY.get(trimmed);
+            if (field == null) {
+                throw new IllegalArgumentException("Campo no disponible: " + trimmed
+                        + ". Campos válidos: " + BY_PROPERTY.keySet().stream().sorted().collect(Collectors.joining(", ")));
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    private static String name(Object value) {
+        return ((Enum<?>) value).name();
+    }
+
+    private static String text(Object value) {
+        return value.toString();
+    }
+}
@@ -0,0 +1,29 @@
+package com.reclutamiento.seguimientoSeleccion.repository;
+
+/**
+ * Proyección de un candidato encontrado por la búsqueda aproximada, con su puntaje de similitud.
+ * <p>
+ * Solo incluye las columnas que se muestran en los resultados, por lo que la consulta no carga la
+ * entidad completa.
+ * </p>
+ *
+ * @see CandidatoRepository#searchSimilar(String, Float, Long, int)
+ */
+public interface CandidatoMatch {
+
+    Long getId();
+
+    String getNombre();
+
+    String getPaisResidencia();
+
+    String getCiudadResidencia();
+
+    String getEstado();
+
+    /**
+     * Mayor similitud de palabra ({@code word_similarity}) entre el texto buscado y el nombre,
+     * la ciudad o el país, entre 0 y 1.
+     */
+    Float getScore();
+}
@@ -0,0 +1,26 @@
+package com.reclutamiento.seguimientoSeleccion.repository;
+
+import com.reclutamiento.seguimientoSeleccion.dto.CandidatoSummaryDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Set;
+
+/**
+ * Fragmento de {@link CandidatoRepository} para listar candidatos seleccionando solo algunas columnas.
+ */
+public interface CandidatoProjectionRepository {
+
+    /**
+     * Obtiene una página de candidatos leyendo únicamente las columnas indicadas.
+     * <p>
+     * La consulta selecciona valores escalares en lugar de entidades, por lo que Hibernate no hidrata
+     * {@code Candidato} ni guarda copias para dirty checking.
+     * </p>
+     *
+     * @param fields   columnas a leer
+     * @param pageable paginación y orden; el orden puede usar cualquier atributo de la entidad
+     * @return página con los candidatos, con solo las columnas indicadas completas
+     */
+    Page<CandidatoSummaryDTO> findAllProjected(Set<CandidatoField> fields, Pageable pageable);
+}
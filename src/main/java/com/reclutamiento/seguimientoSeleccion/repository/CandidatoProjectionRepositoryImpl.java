@@ -0,0 +1,75 @@
+package com.reclutamiento.seguimientoSeleccion.repository;
+
+import com.reclutamiento.seguimientoSeleccion.dto.CandidatoSummaryDTO;
+import com.reclutamiento.seguimientoSeleccion.model.Candidato;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementación del fragmento {@link CandidatoProjectionRepository} con una consulta Criteria de tuplas.
+ */
+@Transactional(readOnly = true)
+class CandidatoProjectionRepositoryImpl implements CandidatoProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    CandidatoProjectionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<CandidatoSummaryDTO> findAllProjected(Set<CandidatoField> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Candidato> root = query.from(Candidato.class);
+
+        List<CandidatoField> columns = new ArrayList<>(fields);
+        List<Selection<?>> selections = new ArrayList<>(columns.size());
+        for (CandidatoField field : columns) {
+            selections.add(root.get(field.getProperty()));
+        }
+        query.multiselect(selections);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<CandidatoSummaryDTO> content = typedQuery.getResultList().stream()
+                .map(tuple -> {
+                    CandidatoSummaryDTO dto = new CandidatoSummaryDTO();
+                    for (int i = 0; i < columns.size(); i++) {
+                        columns.get(i).write(dto, tuple.get(i));
+                    }
+                    return dto;
+                })
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, this::count);
+    }
+
+    private long count() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        query.select(cb.count(query.from(Candidato.class)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,17 +1,126 @@
 package com.reclutamiento.seguimientoSeleccion.repository;
 
 import com.reclutamiento.seguimientoSeleccion.model.Candidato;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repositorio para la entidad {@link Candidato}.
  * <p>
  * Extiende {@link JpaRepository}, lo que proporciona automáticamente
- * métodos CRUD, paginación y consultas básicas sobre la entidad.
+ * métodos CRUD, paginación y consultas básicas sobre la entidad, y de {@link JpaSpecificationExecutor}
+ * para las búsquedas con filtros de {@link CandidatoSpecifications}. El listado con columnas seleccionadas
+ * proviene del fragmento {@link CandidatoProjectionRepository}.
  * <p>
- * Spring Data JPA genera la implementación en tiempo de ejecución.
+ * Spring Data JPA genera la implementación en tiempo de ejecución. Las consultas declaradas aquí se
+ * ejecutan en transacciones de solo lectura, igual que las lecturas heredadas de {@link JpaRepository},
+ * por lo que se envían a la réplica cuando está configurada.
  */
 @Repository
-public interface CandidatoRepository extends JpaRepository<Candidato, Long> {
+@Transactional(readOnly = true)
+public interface CandidatoRepository extends JpaRepository<Candidato, Long>, JpaSpecificationExecutor<Candidato>,
+        CandidatoProjectionRepository {
+
+    /**
+     * Obtiene el siguiente bloque de candidatos cuyo ID es mayor al indicado, ordenados por ID.
+     * <p>
+     * Se usa para la paginación por clave (keyset) en exportaciones grandes: la consulta
+     * aprovecha el índice de la clave primaria y, al devolver un {@link Slice}, no ejecuta
+     * una consulta de conteo adicional.
+     * </p>
+     *
+     * @param id       último ID leído en el bloque anterior
+     * @param pageable tamaño del bloque (la página siempre debe ser 0)
+     * @return bloque de candidatos siguiente
+     */
+    Slice<Candidato> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Obtiene los IDs que dividen a los candidatos, ordenados por ID, en rangos de {@code step} registros:
+     * los de las posiciones {@code step, 2·step, 3·step...}.
+     * <p>
+     * Se usa para repartir una exportación por clave en rangos que se leen en paralelo. La consulta
+     * recorre solo el índice de la clave primaria y devuelve un ID por rango.
+     * </p>
+     *
+     * @param step número de registros de cada rango
+     * @return IDs de corte en orden ascendente
+     */
+    @Query(value = """
+            SELECT n.id
+            FROM (SELECT c.id, row_number() OVER (ORDER BY c.id) AS rn FROM candidato c) n
+            WHERE n.rn % :step = 0
+            ORDER BY n.id
+            """, nativeQuery = true)
+    List<Long> findSplitIds(@Param("step") int step);
+
+    /**
+     * Devuelve todos los candidatos ordenados por ID como un flujo respaldado por un cursor.
+     * <p>
+     * Las filas se leen del servidor en bloques del tamaño indicado por la pista de fetch size
+     * y las entidades se cargan en modo solo lectura (sin copia para dirty checking).
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     * </p>
+     *
+     * @return flujo de candidatos ordenados por ID
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Candidato c order by c.id")
+    Stream<Candidato> streamAll();
+
+    /**
+     * Busca candidatos cuyo nombre, ciudad o país se parecen al texto indicado, ordenados por similitud.
+     * <p>
+     * Usa los operadores de {@code pg_trgm}: el filtro {@code <%} (similitud de palabra por encima de
+     * {@code pg_trgm.word_similarity_threshold}, 0.6 por defecto) se resuelve con los índices GIN de
+     * {@code db/candidato-search.sql}, por lo que tolera nombres parciales o mal escritos sin recorrer la
+     * tabla. El puntaje es la mayor similitud entre las tres columnas.
+     * </p>
+     * <p>
+     * La paginación es por clave sobre {@code (score, id)}: la primera página se pide con
+     * {@code afterScore} y {@code afterId} nulos y las siguientes con los valores del último resultado.
+     * </p>
+     *
+     * @param query      texto buscado
+     * @param afterScore puntaje del último resultado de la página anterior, o {@code null}
+     * @param afterId    ID del último resultado de la página anterior, o {@code null}
+     * @param limit      número máximo de resultados
+     * @return candidatos encontrados, de mayor a menor puntaje y luego por ID
+     */
+    @Query(value = """
+            SELECT s.id AS "id", s.nombre AS "nombre", s.pais_residencia AS "paisResidencia",
+                   s.ciudad_residencia AS "ciudadResidencia", s.estado AS "estado", s.score AS "score"
+            FROM (
+                SELECT c.id, c.nombre, c.pais_residencia, c.ciudad_residencia, c.estado,
+                       GREATEST(word_similarity(:query, c.nombre),
+                                word_similarity(:query, c.ciudad_residencia),
+                                word_similarity(:query, c.pais_residencia)) AS score
+                FROM candidato c
+                WHERE :query <% c.nombre OR :query <% c.ciudad_residencia OR :query <% c.pais_residencia
+            ) s
+            WHERE CAST(:afterScore AS real) IS NULL
+               OR s.score < CAST(:afterScore AS real)
+               OR (s.score = CAST(:afterScore AS real) AND s.id > CAST(:afterId AS bigint))
+            ORDER BY s.score DESC, s.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<CandidatoMatch> searchSimilar(@Param("query") String query,
+                                       @Param("afterScore") Float afterScore,
+                                       @Param("afterId") Long afterId,
+                                       @Param("limit") int limit);
 }
@@ -0,0 +1,125 @@
+package com.reclutamiento.seguimientoSeleccion.repository;
+
+import com.reclutamiento.seguimientoSeleccion.dto.CandidatoSearchCriteria;
+import com.reclutamiento.seguimientoSeleccion.enums.EstadoCandidato;
+import com.reclutamiento.seguimientoSeleccion.enums.NivelEducativo;
+import com.reclutamiento.seguimientoSeleccion.model.Candidato;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Especificaciones JPA para filtrar candidatos con {@link CandidatoRepository#findAll(Specification,
+ * org.springframework.data.domain.Pageable)}.
+ * <p>
+ * Cada filtro se traduce en un predicado sobre una columna indexada, de modo que PostgreSQL resuelve la
+ * búsqueda con los índices declarados en {@link Candidato}: {@code (estado, fechaRegistro)},
+ * {@code (estado, nivelEducativo)}, {@code (paisResidencia, ciudadResidencia)} y {@code fechaNacimiento}.
+ * El rango de edad se convierte en un rango sobre la fecha de nacimiento, sin calcular la edad por fila.
+ * </p>
+ */
+public final class CandidatoSpecifications {
+
+    private CandidatoSpecifications() {
+    }
+
+    /**
+     * Construye la especificación que combina todos los filtros presentes en los criterios.
+     *
+     * @param criteria filtros de búsqueda
+     * @param today    fecha de referencia para convertir edades en fechas de nacimiento
+     * @return especificación con los filtros indicados; sin filtros devuelve todos los candidatos
+     */
+    public static Specification<Candidato> fromCriteria(CandidatoSearchCriteria criteria, LocalDate today) {
+        List<Specification<Candidato>> specs = new ArrayList<>();
+        if (criteria.getEstado() != null && !criteria.getEstado().isEmpty()) {
+            specs.add(estadoIn(criteria.getEstado()));
+        }
+        if (criteria.getNivelEducativo() != null && !criteria.getNivelEducativo().isEmpty()) {
+            specs.add(nivelEducativoIn(criteria.getNivelEducativo()));
+        }
+        if (hasText(criteria.getPais())) {
+            specs.add(paisResidencia(criteria.getPais().trim()));
+        }
+        if (hasText(criteria.getCiudad())) {
+            specs.add(ciudadResidencia(criteria.getCiudad().trim()));
+        }
+        if (criteria.getFechaRegistroDesde() != null || criteria.getFechaRegistroHasta() != null) {
+            specs.add(fechaRegistroEntre(criteria.getFechaRegistroDesde(), criteria.getFechaRegistroHasta()));
+        }
+        if (criteria.getEdadMin() != null || criteria.getEdadMax() != null) {
+            specs.add(edadEntre(criteria.getEdadMin(), criteria.getEdadMax(), today));
+        }
+        return Specification.allOf(specs);
+    }
+
+    /**
+     * Candidatos en cualquiera de los estados indicados.
+     */
+    public static Specification<Candidato> estadoIn(Collection<EstadoCandidato> estados) {
+        return (root, query, cb) -> root.get("estado").in(estados);
+    }
+
+    /**
+     * Candidatos con cualquiera de los niveles educativos indicados.
+     */
+    public static Specification<Candidato> nivelEducativoIn(Collection<NivelEducativo> niveles) {
+        return (root, query, cb) -> root.get("nivelEducativo").in(niveles);
+    }
+
+    /**
+     * Candidatos que residen en el país indicado.
+     */
+    public static Specification<Candidato> paisResidencia(String pais) {
+        return (root, query, cb) -> cb.equal(root.get("paisResidencia"), pais);
+    }
+
+    /**
+     * Candidatos que residen en la ciudad indicada.
+     */
+    public static Specification<Candidato> ciudadResidencia(String ciudad) {
+        return (root, query, cb) -> cb.equal(root.get("ciudadResidencia"), ciudad);
+    }
+
+    /**
+     * Candidatos registrados entre dos fechas, inclusive. Cualquiera de los extremos puede ser {@code null}.
+     */
+    public static Specification<Candidato> fechaRegistroEntre(LocalDate desde, LocalDate hasta) {
+        return (root, query, cb) -> {
+            if (desde != null && hasta != null) {
+                return cb.between(root.get("fechaRegistro"), desde, hasta);
+            }
+            return desde != null
+                    ? cb.greaterThanOrEqualTo(root.get("fechaRegistro"), desde)
+                    : cb.lessThanOrEqualTo(root.get("fechaRegistro"), hasta);
+        };
+    }
+
+    /**
+     * Candidatos cuya edad en años cumplidos a la fecha indicada está entre los límites, inclusive.
+     * Cualquiera de los límites puede ser {@code null}.
+     * <p>
+     * Tener al menos {@code min} años equivale a haber nacido en o antes de {@code today - min años};
+     * tener como máximo {@code max} años equivale a haber nacido después de {@code today - (max + 1) años}.
+     * </p>
+     */
+    public static Specification<Candidato> edadEntre(Integer min, Integer max, LocalDate today) {
+        LocalDate nacidoHasta = min != null ? today.minusYears(min) : null;
+        LocalDate nacidoDesde = max != null ? today.minusYears(max + 1L).plusDays(1) : null;
+        return (root, query, cb) -> {
+            if (nacidoDesde != null && nacidoHasta != null) {
+                return cb.between(root.get("fechaNacimiento"), nacidoDesde, nacidoHasta);
+            }
+            return nacidoDesde != null
+                    ? cb.greaterThanOrEqualTo(root.get("fechaNacimiento"), nacidoDesde)
+                    : cb.lessThanOrEqualTo(root.get("fechaNacimiento"), nacidoHasta);
+        };
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -1,20 +1,35 @@
 package com.reclutamiento.seguimientoSeleccion.service;
 
 import com.reclutamiento.seguimientoSeleccion.config.ExportLimitsProperties;
+import com.reclutamiento.seguimientoSeleccion.config.ExportStorageProperties;
+import com.reclutamiento.seguimientoSeleccion.dto.ExportJobStatusDTO;
 import com.reclutamiento.seguimientoSeleccion.dto.ExportResult;
 import com.reclutamiento.seguimientoSeleccion.enums.ExportFormat;
+import com.reclutamiento.seguimientoSeleccion.enums.ExportJobStatus;
 import com.reclutamiento.seguimientoSeleccion.exception.ExportLimitExceededException;
+import com.reclutamiento.seguimientoSeleccion.exception.ExportQueueFullException;
+import com.reclutamiento.seguimientoSeleccion.exception.NotFoundException;
 import com.reclutamiento.seguimientoSeleccion.export.*;
-import org.springframework.scheduling.annotation.Async;
+import jakarta.annotation.PreDestroy;
 import org.springframework.stereotype.Service;
-import org.springframework.data.domain.Page;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -24,7 +39,17 @@ import java.util.concurrent.TimeUnit;
  * Servicio encargado de manejar la exportación asincrónica de datos.
  * <p>
  * Permite exportar listas o páginas de datos en segundo plano en múltiples formatos (PDF, Excel, CSV),
- * almacenando el resultado temporalmente en memoria. Cada exportación es identificada mediante un ID único.
+ * almacenando el resultado temporalmente en el {@link ExportStorage} configurado (memoria o disco).
+ * Cada exportación es identificada mediante un ID único.
+ * </p>
+ * <p>
+ * Las exportaciones no se ejecutan directamente: se validan contra los límites y se entregan al
+ * {@link ExportScheduler}, que las ordena por tamaño dentro de la cola de su formato y rechaza
+ * las nuevas solicitudes cuando la cola está llena.
+ * </p>
+ * <p>
+ * Una misma exportación puede generar varios formatos a la vez: los datos se leen y mapean una sola
+ * vez con {@link MultiFormatExporter} y el resultado es un ZIP con un archivo por formato.
  * </p>
  * <p>
  * Soporta control de límites configurables por formato y expiración automática del resultado exportado.
@@ -38,13 +63,12 @@ import java.util.concurrent.TimeUnit;
 public class AsyncExportService {
 
     /**
-     * Mapa concurrente que almacena los resultados de exportaciones en memoria,
-     * usando como clave un ID único.
+     * Almacenamiento de los resultados de exportaciones, usando como clave un ID único.
      */
-    private final ConcurrentHashMap<String, ExportResult> exportResults = new ConcurrentHashMap<>();
+    private final ExportStorage exportStorage;
 
     /**
-     * Programador de tareas para limpiar exportaciones expiradas.
+     * Programador de la tarea periódica que retira las exportaciones expiradas del almacenamiento.
      */
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
 
@@ -55,128 +79,484 @@ public class AsyncExportService {
     private final ExportLimitsProperties limits;
 
     /**
-     * Constructor que inyecta las propiedades de límites de exportación.
+     * Plantilla de transacciones de solo lectura usada para mantener abierto el cursor
+     * de la base de datos mientras se consume un flujo de datos durante la exportación.
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Registro de las estrategias de exportación compartidas por formato.
+     */
+    private final ExportStrategyRegistry strategyRegistry;
+
+    /**
+     * Métricas de duración, filas y tamaño de las exportaciones.
+     */
+    private final ExportMetrics metrics;
+
+    /**
+     * Planificador que ordena y limita las exportaciones por formato.
+     */
+    private final ExportScheduler exportScheduler;
+
+    /**
+     * Constructor que inyecta las propiedades de límites de exportación, el gestor de transacciones,
+     * el almacenamiento de resultados, el registro de estrategias, las métricas y el planificador, y programa
+     * la limpieza periódica de resultados expirados y del estado de los trabajos terminados.
      *
-     * @param limits propiedades que definen el número máximo de registros y tiempo de expiración por formato
+     * @param limits             propiedades que definen el número máximo de registros y tiempo de expiración por formato
+     * @param transactionManager gestor de transacciones usado para las exportaciones basadas en flujos
+     * @param exportStorage      almacenamiento donde se guardan los resultados de las exportaciones
+     * @param storageProperties  propiedades del almacenamiento, incluido el intervalo de limpieza
+     * @param strategyRegistry   registro de las estrategias de exportación por formato
+     * @param metrics            métricas de las exportaciones
+     * @param exportScheduler    planificador de las exportaciones por formato
      */
-    public AsyncExportService(ExportLimitsProperties limits) {
+    public AsyncExportService(ExportLimitsProperties limits,
+                              PlatformTransactionManager transactionManager,
+                              ExportStorage exportStorage,
+                              ExportStorageProperties storageProperties,
+                              ExportStrategyRegistry strategyRegistry,
+                              ExportMetrics metrics,
+                              ExportScheduler exportScheduler) {
         this.limits = limits;
+        this.exportStorage = exportStorage;
+        this.strategyRegistry = strategyRegistry;
+        this.metrics = metrics;
+        this.exportScheduler = exportScheduler;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        long purgeMillis = storageProperties.getPurgeInterval().toMillis();
+        Duration jobRetention = Duration.ofMinutes(limits.getExpirationMinutes());
+        scheduler.scheduleAtFixedRate(() -> {
+            exportStorage.purgeExpired();
+            exportScheduler.purgeFinished(jobRetention);
+        }, purgeMillis, purgeMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Detiene la limpieza periódica al cerrar el contexto de la aplicación.
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
     }
 
     /**
      * Obtiene el resultado de una exportación previamente almacenada.
      *
      * @param exportId identificador único de la exportación
-     * @return el resultado de la exportación o {@code null} si no existe o ha expirado
+     * @return el resultado de la exportación o {@code null} si no existe, ha expirado o fue cancelada
      */
     public ExportResult getExportResult(String exportId) {
-        return exportResults.get(exportId);
+        ExportJob job = exportScheduler.getJob(exportId);
+        if (job != null && job.isCancelled()) {
+            return null;
+        }
+        return exportStorage.get(exportId);
+    }
+
+    /**
+     * Cancela una exportación en espera o en ejecución y descarta su resultado si llegó a almacenarse.
+     * <p>
+     * Una exportación en ejecución se detiene antes de leer su siguiente bloque de datos. Si la
+     * exportación ya había terminado, no cambia y se devuelve su estado.
+     * </p>
+     *
+     * @param exportId identificador único de la exportación
+     * @return estado de la exportación tras la solicitud
+     * @throws NotFoundException si la exportación no existe o su estado ya fue retirado
+     */
+    public ExportJobStatusDTO cancelExport(String exportId) {
+        ExportJob job = exportScheduler.cancel(exportId);
+        if (job == null) {
+            throw new NotFoundException("Exportación", "id", exportId);
+        }
+        if (job.isCancelled()) {
+            exportStorage.remove(exportId);
+        }
+        return toStatusDTO(job);
     }
 
     /**
-     * Ejecuta una exportación asincrónica para una lista completa de datos.
+     * Obtiene el estado de una exportación: posición en la cola, avance o error.
      *
-     * @param format     formato de exportación (pdf, excel, csv)
-     * @param headers    encabezados de columna
-     * @param extractors funciones para extraer los valores de cada campo del objeto
-     * @param data       lista completa de datos a exportar
-     * @param <T>        tipo de dato a exportar
-     * @return un {@link CompletableFuture} que contiene el ID de la exportación
-     * @throws ExportLimitExceededException si se excede el límite configurado
-     */
-    @Async
-    public <T> CompletableFuture<String> exportAll(
+     * @param exportId identificador único de la exportación
+     * @return estado actual de la exportación
+     * @throws NotFoundException si la exportación no existe o su estado ya fue retirado
+     */
+    public ExportJobStatusDTO getExportStatus(String exportId) {
+        ExportJob job = exportScheduler.getJob(exportId);
+        if (job == null) {
+            throw new NotFoundException("Exportación", "id", exportId);
+        }
+        return toStatusDTO(job);
+    }
+
+    private ExportJobStatusDTO toStatusDTO(ExportJob job) {
+        ExportJobStatusDTO dto = new ExportJobStatusDTO();
+        dto.setId(job.getId());
+        dto.setFormat(job.getFormat());
+        dto.setStatus(job.getStatus());
+        if (job.getStatus() == ExportJobStatus.QUEUED) {
+            dto.setQueuePosition(exportScheduler.getQueuePosition(job));
+        }
+        dto.setTotalRows(job.getTotalRows());
+        dto.setProcessedRows(job.getProcessedRows());
+        dto.setProgress(job.getProgressPercent());
+        dto.setSubmittedAt(job.getSubmittedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        dto.setError(job.getErrorMessage());
+        return dto;
+    }
+
+    /**
+     * Ejecuta una exportación asincrónica recorriendo los datos con paginación por clave (keyset).
+     * <p>
+     * Cada bloque se obtiene con {@code clave > ultimaClave}, sin {@code OFFSET} ni conteo por bloque,
+     * por lo que el costo de cada consulta se mantiene constante aunque la exportación sea muy grande.
+     * Con las claves de corte, un Excel de varias hojas lee y genera cada hoja en paralelo sobre su
+     * propio rango de claves.
+     * </p>
+     *
+     * @param format        formato de exportación
+     * @param compression   compresión aplicada al archivo generado
+     * @param headers       encabezados de columna
+     * @param extractors    funciones para extraer los campos del DTO
+     * @param sliceFetcher  función que devuelve el bloque siguiente a la última clave leída
+     * @param keyExtractor  función que obtiene la clave de ordenamiento de cada elemento
+     * @param countSupplier función que devuelve el total de elementos (se invoca una sola vez)
+     * @param splitKeys     función que devuelve las claves de corte cada {@code n} elementos, o {@code null}
+     * @param <T>           tipo de dato exportado
+     * @return el ID de la exportación encolada
+     * @throws ExportLimitExceededException si se excede el número máximo permitido
+     * @throws ExportQueueFullException     si la cola del formato está llena
+     */
+    public <T> String exportKeyset(
             ExportFormat format,
+            ExportCompression compression,
             List<String> headers,
             List<Function<T, Object>> extractors,
-            List<T> data
+            BiFunction<Long, Pageable, Slice<T>> sliceFetcher,
+            Function<T, Long> keyExtractor,
+            LongSupplier countSupplier,
+            IntFunction<List<Long>> splitKeys
     ) {
-        try {
-            int totalCount = data.size();
+        ExportDataProvider<T> provider = new KeysetExportDataProvider<>(
+                sliceFetcher, keyExtractor, countSupplier, headers, extractors, splitKeys);
+        return submit(format, provider.getTotalCount(), job -> export(job, provider, compression));
+    }
 
-            int maxAllowed = limits.getLimitByFormat(format);
-            if (totalCount > maxAllowed) {
-                throw new ExportLimitExceededException(format, maxAllowed, totalCount);
+    /**
+     * Ejecuta una exportación asincrónica consumiendo un flujo de datos de forma perezosa.
+     * <p>
+     * El flujo se abre dentro de una transacción de solo lectura que permanece activa durante toda
+     * la exportación, lo que permite leer la tabla completa con un cursor del lado del servidor
+     * sin cargar todos los registros en memoria. El flujo se cierra al terminar.
+     * </p>
+     *
+     * @param format         formato de exportación
+     * @param compression    compresión aplicada al archivo generado
+     * @param headers        encabezados de columna
+     * @param extractors     funciones para extraer los campos del DTO
+     * @param streamSupplier función que abre el flujo de datos a exportar
+     * @param countSupplier  función que devuelve el total de elementos (se invoca una sola vez)
+     * @param <T>            tipo de dato exportado
+     * @return el ID de la exportación encolada
+     * @throws ExportLimitExceededException si se excede el número máximo permitido
+     * @throws ExportQueueFullException     si la cola del formato está llena
+     */
+    public <T> String exportStream(
+            ExportFormat format,
+            ExportCompression compression,
+            List<String> headers,
+            List<Function<T, Object>> extractors,
+            Supplier<Stream<T>> streamSupplier,
+            LongSupplier countSupplier
+    ) {
+        long totalCount = countSupplier.getAsLong();
+        return submit(format, totalCount, job -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<T> stream = streamSupplier.get()) {
+                export(job, new StreamExportDataProvider<>(stream, () -> totalCount, headers, extractors), compression);
             }
+        }));
+    }
 
-            ExportDataProvider<T> provider = new ListExportDataProvider<>(data, headers, extractors);
-            ExportStrategy<T> strategy = ExportStrategyFactory.getStrategy(format);
-            byte[] exportData = strategy.export(provider);
-
-            String exportId = UUID.randomUUID().toString();
-            exportResults.put(exportId, new ExportResult(
-                    exportData,
-                    "exported-data." + strategy.getFileExtension(),
-                    strategy.getContentType()
-            ));
-            scheduleExportExpiration(exportId, limits.getExpirationMinutes());
-
-            return CompletableFuture.completedFuture(exportId);
-        } catch (Exception e) {
-            CompletableFuture<String> failed = new CompletableFuture<>();
-            failed.completeExceptionally(e);
-            return failed;
+    /**
+     * Ejecuta una exportación asincrónica en varios formatos recorriendo los datos con paginación por clave.
+     * <p>
+     * Los bloques se leen una sola vez y se reparten a todos los formatos; el resultado es un ZIP con un
+     * archivo por formato. Con un solo formato equivale a
+     * {@link #exportKeyset(ExportFormat, ExportCompression, List, List, BiFunction, Function, LongSupplier, IntFunction)}
+     * sin compresión.
+     * </p>
+     *
+     * @param formats       formatos a generar
+     * @param headers       encabezados de columna
+     * @param extractors    funciones para extraer los campos del DTO
+     * @param sliceFetcher  función que devuelve el bloque siguiente a la última clave leída
+     * @param keyExtractor  función que obtiene la clave de ordenamiento de cada elemento
+     * @param countSupplier función que devuelve el total de elementos (se invoca una sola vez)
+     * @param splitKeys     función que devuelve las claves de corte cada {@code n} elementos, o {@code null};
+     *                      solo se usa con un único formato
+     * @param <T>           tipo de dato exportado
+     * @return el ID de la exportación encolada
+     * @throws ExportLimitExceededException si se excede el límite de alguno de los formatos
+     * @throws ExportQueueFullException     si la cola del formato más costoso está llena
+     */
+    public <T> String exportKeyset(
+            Set<ExportFormat> formats,
+            List<String> headers,
+            List<Function<T, Object>> extractors,
+            BiFunction<Long, Pageable, Slice<T>> sliceFetcher,
+            Function<T, Long> keyExtractor,
+            LongSupplier countSupplier,
+            IntFunction<List<Long>> splitKeys
+    ) {
+        if (formats.size() == 1) {
+            return exportKeyset(formats.iterator().next(), ExportCompression.NONE,
+                    headers, extractors, sliceFetcher, keyExtractor, countSupplier, splitKeys);
         }
+        ExportDataProvider<T> provider = new KeysetExportDataProvider<>(
+                sliceFetcher, keyExtractor, countSupplier, headers, extractors);
+        return submit(formats, provider.getTotalCount(), job -> exportBundle(job, formats, provider));
     }
 
     /**
-     * Ejecuta una exportación asincrónica de datos usando paginación.
+     * Ejecuta una exportación asincrónica en varios formatos consumiendo un flujo de datos de forma perezosa.
      * <p>
-     * Ideal para grandes volúmenes de datos que se deben cargar por bloques desde la base de datos.
+     * El flujo se recorre una sola vez dentro de una transacción de solo lectura y cada bloque se reparte
+     * a todos los formatos; el resultado es un ZIP con un archivo por formato. Con un solo formato equivale a
+     * {@link #exportStream(ExportFormat, ExportCompression, List, List, Supplier, LongSupplier)} sin compresión.
      * </p>
      *
-     * @param format      formato de exportación
-     * @param headers     encabezados de columna
-     * @param extractors  funciones para extraer los campos del DTO
-     * @param pageable    configuración de paginación (puede ser ignorada si el pageFetcher la sobreescribe)
-     * @param pageFetcher función que devuelve una página de datos a partir de un {@link Pageable}
-     * @param <T>         tipo de dato exportado
-     * @return un {@link CompletableFuture} con el ID de la exportación
-     * @throws ExportLimitExceededException si se excede el número máximo permitido
+     * @param formats        formatos a generar
+     * @param headers        encabezados de columna
+     * @param extractors     funciones para extraer los campos del DTO
+     * @param streamSupplier función que abre el flujo de datos a exportar
+     * @param countSupplier  función que devuelve el total de elementos (se invoca una sola vez)
+     * @param <T>            tipo de dato exportado
+     * @return el ID de la exportación encolada
+     * @throws ExportLimitExceededException si se excede el límite de alguno de los formatos
+     * @throws ExportQueueFullException     si la cola del formato más costoso está llena
      */
-    @Async
-    public <T> CompletableFuture<String> exportPaged(
-            ExportFormat format,
+    public <T> String exportStream(
+            Set<ExportFormat> formats,
             List<String> headers,
             List<Function<T, Object>> extractors,
-            Pageable pageable,
-            Function<Pageable, Page<T>> pageFetcher
+            Supplier<Stream<T>> streamSupplier,
+            LongSupplier countSupplier
     ) {
+        if (formats.size() == 1) {
+            return exportStream(formats.iterator().next(), ExportCompression.NONE,
+                    headers, extractors, streamSupplier, countSupplier);
+        }
+        long totalCount = countSupplier.getAsLong();
+        return submit(formats, totalCount, job -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<T> stream = streamSupplier.get()) {
+                exportBundle(job, formats, new StreamExportDataProvider<>(stream, () -> totalCount, headers, extractors));
+            }
+        }));
+    }
+
+    /**
+     * Valida el límite del formato y entrega la exportación al planificador.
+     *
+     * @param format     formato de exportación
+     * @param totalCount número de filas a exportar
+     * @param task       exportación a ejecutar cuando el trabajo obtenga turno
+     * @return el ID de la exportación encolada
+     * @throws ExportLimitExceededException si se excede el número máximo permitido
+     * @throws ExportQueueFullException     si la cola del formato está llena
+     */
+    private String submit(ExportFormat format, long totalCount, Consumer<ExportJob> task) {
+        checkLimit(format, totalCount);
+        return exportScheduler.submit(format, totalCount, task).getId();
+    }
+
+    /**
+     * Valida el límite de cada formato y entrega la exportación combinada al planificador.
+     * <p>
+     * El trabajo ocupa un turno en la cola del formato más costoso de los solicitados según
+     * {@link ExportFormat#getCost()}, que es el que determina su duración.
+     * </p>
+     *
+     * @param formats    formatos a generar
+     * @param totalCount número de filas a exportar
+     * @param task       exportación a ejecutar cuando el trabajo obtenga turno
+     * @return el ID de la exportación encolada
+     * @throws ExportLimitExceededException si se excede el límite de alguno de los formatos
+     * @throws ExportQueueFullException     si la cola del formato más costoso está llena
+     */
+    private String submit(Set<ExportFormat> formats, long totalCount, Consumer<ExportJob> task) {
+        ExportFormat lane = null;
+        for (ExportFormat format : formats) {
+            checkLimit(format, totalCount);
+            if (lane == null || format.getCost() > lane.getCost()) {
+                lane = format;
+            }
+        }
+        if (lane == null) {
+            throw new IllegalArgumentException("Debe indicarse al menos un formato de exportación");
+        }
+        return exportScheduler.submit(lane, totalCount, task).getId();
+    }
+
+    /**
+     * Verifica que el número de filas no supere el límite configurado para el formato.
+     *
+     * @throws ExportLimitExceededException si se excede el número máximo permitido
+     */
+    private void checkLimit(ExportFormat format, long totalCount) {
+        int maxAllowed = limits.getLimitByFormat(format);
+        if (totalCount > maxAllowed) {
+            throw new ExportLimitExceededException(format, maxAllowed, (int) Math.min(totalCount, Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Genera la exportación de un trabajo a partir del proveedor de datos y almacena el resultado
+     * con el ID del trabajo.
+     * <p>
+     * El archivo se escribe directamente en el almacenamiento, pasando por la compresión elegida, sin
+     * construir primero el arreglo de bytes completo cuando la estrategia soporta streaming. Las filas
+     * leídas se suman al avance del trabajo, y la duración, las filas y el tamaño del archivo se registran
+     * en {@link ExportMetrics}. Si el trabajo se cancela, la lectura se interrumpe con
+     * {@link CancellationException} y el resultado no se conserva.
+     * </p>
+     *
+     * @param job         trabajo en ejecución
+     * @param provider    proveedor de datos a exportar
+     * @param compression compresión aplicada al archivo generado
+     * @param <T>         tipo de dato exportado
+     * @throws IllegalStateException si la generación del archivo falla con una excepción verificada
+     */
+    private <T> void export(ExportJob job, ExportDataProvider<T> provider, ExportCompression compression) {
+        ExportFormat format = job.getFormat();
+        long start = System.nanoTime();
         try {
-            ExportDataProvider<T> provider = new PaginatedExportDataProvider<>(pageFetcher, headers, extractors);
-            int totalCount = provider.getTotalCount();
+            ExportStrategy<T> strategy = strategyRegistry.getStrategy(format);
+            ExportDataProvider<T> tracked = new ProgressTrackingExportDataProvider<>(
+                    provider, job::addProcessedRows, job::isCancelled);
+            String filename = "exported-data." + strategy.getFileExtension();
+
+            StreamingExport.ExportWriter writer = strategy instanceof StreamingExportStrategy<T> streamingStrategy
+                    ? out -> streamingStrategy.exportTo(tracked, out)
+                    : out -> out.write(strategy.export(tracked));
+            ExportResult result = exportStorage.write(job.getId(),
+                    compression.getFilename(filename),
+                    compression.getContentType(strategy.getContentType()),
+                    compression.wrap(filename, writer));
 
-            int maxAllowed = limits.getLimitByFormat(format);
-            if (totalCount > maxAllowed) {
-                throw new ExportLimitExceededException(format, maxAllowed, totalCount);
+            if (job.isCancelled()) {
+                exportStorage.remove(job.getId());
+                throw new CancellationException("Exportación cancelada");
             }
 
-            ExportStrategy<T> strategy = ExportStrategyFactory.getStrategy(format);
-            byte[] exportData = strategy.export(provider);
+            metrics.recordSuccess(format, job.getTotalRows(), result.size(), System.nanoTime() - start);
+        } catch (CancellationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(format, System.nanoTime() - start);
+            throw e;
+        } catch (Exception e) {
+            metrics.recordFailure(format, System.nanoTime() - start);
+            throw new IllegalStateException("Error al generar la exportación " + job.getId() + ": " + e.getMessage(), e);
+        }
+    }
 
-            String exportId = UUID.randomUUID().toString();
-            exportResults.put(exportId, new ExportResult(
-                    exportData,
-                    "exported-data." + strategy.getFileExtension(),
-                    strategy.getContentType()
-            ));
-            scheduleExportExpiration(exportId, limits.getExpirationMinutes());
+    /**
+     * Genera varios formatos de un trabajo con una sola lectura del proveedor y almacena el ZIP resultante
+     * con el ID del trabajo.
+     * <p>
+     * Las métricas se registran con el formato de la cola del trabajo. La cancelación se maneja igual
+     * que en {@link #export(ExportJob, ExportDataProvider, ExportCompression)}.
+     * </p>
+     *
+     * @param job      trabajo en ejecución
+     * @param formats  formatos a generar; todos deben soportar streaming
+     * @param provider proveedor de datos a exportar, leído una sola vez
+     * @param <T>      tipo de dato exportado
+     * @throws IllegalStateException si la generación del archivo falla con una excepción verificada
+     */
+    private <T> void exportBundle(ExportJob job, Set<ExportFormat> formats, ExportDataProvider<T> provider) {
+        ExportFormat format = job.getFormat();
+        long start = System.nanoTime();
+        try {
+            Map<String, StreamingExportStrategy<T>> strategies = new LinkedHashMap<>();
+            for (ExportFormat requested : formats) {
+                ExportStrategy<T> strategy = strategyRegistry.getStrategy(requested);
+                if (!(strategy instanceof StreamingExportStrategy<T> streamingStrategy)) {
+                    throw new IllegalArgumentException("El formato " + requested + " no soporta exportación combinada");
+                }
+                strategies.put("exported-data." + strategy.getFileExtension(), streamingStrategy);
+            }
+            ExportDataProvider<T> tracked = new ProgressTrackingExportDataProvider<>(
+                    provider, job::addProcessedRows, job::isCancelled);
+            MultiFormatExporter exporter = strategyRegistry.getMultiFormatExporter();
 
-            return CompletableFuture.completedFuture(exportId);
+            ExportResult result = exportStorage.write(job.getId(),
+                    "exported-data.zip",
+                    ExportCompression.ZIP.getContentType(null),
+                    out -> exporter.exportTo(tracked, strategies, out));
+
+            if (job.isCancelled()) {
+                exportStorage.remove(job.getId());
+                throw new CancellationException("Exportación cancelada");
+            }
+
+            metrics.recordSuccess(format, job.getTotalRows(), result.size(), System.nanoTime() - start);
+        } catch (CancellationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(format, System.nanoTime() - start);
+            throw e;
         } catch (Exception e) {
-            CompletableFuture<String> failed = new CompletableFuture<>();
-            failed.completeExceptionally(e);
-            return failed;
+            metrics.recordFailure(format, System.nanoTime() - start);
+            throw new IllegalStateException("Error al generar la exportación " + job.getId() + ": " + e.getMessage(), e);
         }
     }
 
     /**
-     * Programa la eliminación automática del resultado de exportación después de un período de tiempo.
+     * Prepara una exportación que se escribirá en streaming directamente sobre la respuesta HTTP.
+     * <p>
+     * Valida el límite configurado para el formato antes de devolver la exportación, de modo que
+     * el error se reporte al cliente antes de comenzar a enviar el cuerpo de la respuesta.
+     * Solo están soportados los formatos cuya estrategia implementa {@link StreamingExportStrategy}.
+     * Los bytes enviados se cuentan con un {@link CountingOutputStream} para registrar las métricas.
+     * </p>
      *
-     * @param exportId ID del resultado exportado
-     * @param minutes  tiempo en minutos tras el cual se elimina el resultado
+     * @param format   formato de exportación
+     * @param provider proveedor de datos que se leerá por bloques durante la escritura
+     * @param <T>      tipo de dato exportado
+     * @return exportación lista para escribirse en un flujo de salida
+     * @throws ExportLimitExceededException si se excede el número máximo permitido
+     * @throws IllegalArgumentException     si el formato no soporta streaming
      */
-    private void scheduleExportExpiration(String exportId, int minutes) {
-        scheduler.schedule(() -> exportResults.remove(exportId), minutes, TimeUnit.MINUTES);
+    public <T> StreamingExport prepareStreamingExport(ExportFormat format, ExportDataProvider<T> provider) {
+        int totalCount = provider.getTotalCount();
+        checkLimit(format, totalCount);
+
+        ExportStrategy<T> strategy = strategyRegistry.getStrategy(format);
+        if (!(strategy instanceof StreamingExportStrategy<T> streamingStrategy)) {
+            throw new IllegalArgumentException("El formato " + format + " no soporta exportación en streaming");
+        }
+
+        return new StreamingExport(
+                "exported-data." + strategy.getFileExtension(),
+                strategy.getContentType(),
+                out -> {
+                    long start = System.nanoTime();
+                    CountingOutputStream counting = new CountingOutputStream(out);
+                    try {
+                        streamingStrategy.exportTo(provider, counting);
+                    } catch (Exception e) {
+                        metrics.recordFailure(format, System.nanoTime() - start);
+                        throw e;
+                    }
+                    metrics.recordSuccess(format, totalCount, counting.getCount(), System.nanoTime() - start);
+                }
+        );
     }
 }
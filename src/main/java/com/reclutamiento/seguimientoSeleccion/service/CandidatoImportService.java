@@ -0,0 +1,283 @@
+package com.reclutamiento.seguimientoSeleccion.service;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.reclutamiento.seguimientoSeleccion.config.CandidatoImportProperties;
+import com.reclutamiento.seguimientoSeleccion.dto.CandidatoCreateDTO;
+import com.reclutamiento.seguimientoSeleccion.dto.CandidatoImportResultDTO;
+import com.reclutamiento.seguimientoSeleccion.dto.ImportRowError;
+import com.reclutamiento.seguimientoSeleccion.enums.EstadoCandidato;
+import com.reclutamiento.seguimientoSeleccion.importer.CandidatoImportReader;
+import com.reclutamiento.seguimientoSeleccion.importer.CsvCandidatoImportReader;
+import com.reclutamiento.seguimientoSeleccion.importer.JsonCandidatoImportReader;
+import com.reclutamiento.seguimientoSeleccion.importer.XlsxCandidatoImportReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Servicio de importación masiva de candidatos desde archivos CSV o Excel, o desde un arreglo JSON.
+ * <p>
+ * Las filas se leen en una sola pasada y cada una se convierte a {@link CandidatoCreateDTO} y se valida
+ * con las mismas reglas que {@code POST /api/candidatos}. Las filas válidas se insertan en lotes con
+ * {@link JdbcTemplate#batchUpdate(String, List)}, un lote por transacción, sin pasar por el contexto de
+ * persistencia de Hibernate. La inserción usa {@code ON CONFLICT DO NOTHING}, de modo que un correo o
+ * documento ya registrado (o repetido dentro del mismo archivo) se reporta como duplicado sin abortar
+ * el lote.
+ * </p>
+ *
+ * <p>
+ * Si un lote falla por otro motivo, se reintenta fila por fila para aislar las filas con error. Ninguna
+ * fila inválida detiene la importación: todas se reportan en {@link CandidatoImportResultDTO}.
+ * </p>
+ */
+@Service
+public class CandidatoImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidatoImportService.class);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO candidato (nombre, email, telefono, tipo_documento, documento_identidad,
+                                   pais_residencia, ciudad_residencia, fecha_nacimiento, genero, nivel_educativo,
+                                   linkedin_url, estado, fecha_registro,
+                                   created_at, updated_at, created_by, modified_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final AuditorAware<String> auditorProvider;
+    private final CandidatoImportProperties properties;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param jdbcTemplate       plantilla JDBC para las inserciones por lotes
+     * @param transactionManager gestor de transacciones, usado para confirmar cada lote por separado
+     * @param objectMapper       mapper de la aplicación, usado para convertir cada fila al DTO de creación
+     * @param validator          validador de Bean Validation
+     * @param auditorProvider    proveedor del usuario que se registra como creador
+     * @param properties         configuración de la importación
+     */
+    public CandidatoImportService(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper,
+                                  Validator validator,
+                                  AuditorAware<String> auditorProvider,
+                                  CandidatoImportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.auditorProvider = auditorProvider;
+        this.properties = properties;
+    }
+
+    /**
+     * Importa candidatos desde un archivo CSV ({@code .csv}) o Excel ({@code .xlsx}).
+     *
+     * @param file archivo recibido
+     * @return resultado con los contadores y los errores por fila
+     * @throws IOException              si falla la lectura del archivo
+     * @throws IllegalArgumentException si el formato del archivo no está soportado o no es válido
+     */
+    public CandidatoImportResultDTO importarArchivo(MultipartFile file) throws IOException {
+        String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        try (InputStream input = file.getInputStream()) {
+            if (name.endsWith(".csv")) {
+                return importar(new CsvCandidatoImportReader(input));
+            }
+            if (name.endsWith(".xlsx")) {
+                return importar(new XlsxCandidatoImportReader(input));
+            }
+        }
+        throw new IllegalArgumentException("Formato de archivo no soportado: se aceptan archivos .csv y .xlsx");
+    }
+
+    /**
+     * Importa candidatos desde un arreglo JSON.
+     *
+     * @param body cuerpo de la petición
+     * @return resultado con los contadores y los errores por fila
+     * @throws IOException              si falla la lectura del cuerpo
+     * @throws IllegalArgumentException si el cuerpo no es un arreglo JSON
+     */
+    public CandidatoImportResultDTO importarJson(InputStream body) throws IOException {
+        return importar(new JsonCandidatoImportReader(body, objectMapper));
+    }
+
+    /**
+     * Importa las filas entregadas por el lector.
+     *
+     * @param reader lector del origen
+     * @return resultado con los contadores y los errores por fila
+     * @throws IOException si falla la lectura del origen
+     */
+    public CandidatoImportResultDTO importar(CandidatoImportReader reader) throws IOException {
+        long start = System.nanoTime();
+        Importacion importacion = new Importacion(auditorProvider.getCurrentAuditor().orElse(null));
+        reader.read(importacion::accept);
+        importacion.flush();
+
+        CandidatoImportResultDTO result = importacion.result;
+        logger.info("Importación de candidatos: {} filas, {} insertadas, {} duplicadas, {} rechazadas en {} ms",
+                result.getTotalRows(), result.getImported(), result.getDuplicates(), result.getFailed(),
+                (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    /**
+     * Estado de una importación en curso: lote pendiente y resultado acumulado.
+     */
+    private final class Importacion {
+
+        private final CandidatoImportResultDTO result = new CandidatoImportResultDTO();
+        private final List<Integer> pendingRows = new ArrayList<>(properties.getBatchSize());
+        private final List<Object[]> pendingParams = new ArrayList<>(properties.getBatchSize());
+        private final String auditor;
+        private final LocalDateTime now = LocalDateTime.now();
+        private final LocalDate today = now.toLocalDate();
+
+        private Importacion(String auditor) {
+            this.auditor = auditor;
+        }
+
+        private void accept(JsonNode node, int row) {
+            result.setTotalRows(result.getTotalRows() + 1);
+
+            CandidatoCreateDTO dto;
+            try {
+                dto = objectMapper.treeToValue(node, CandidatoCreateDTO.class);
+            } catch (InvalidFormatException e) {
+                reject(row, fieldOf(e), "Valor no válido: " + e.getValue());
+                return;
+            } catch (JsonMappingException e) {
+                reject(row, fieldOf(e), e.getOriginalMessage());
+                return;
+            } catch (Exception e) {
+                reject(row, null, e.getMessage());
+                return;
+            }
+
+            var violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                result.setFailed(result.getFailed() + 1);
+                for (ConstraintViolation<CandidatoCreateDTO> violation : violations) {
+                    addError(new ImportRowError(row, violation.getPropertyPath().toString(), violation.getMessage()));
+                }
+                return;
+            }
+
+            pendingRows.add(row);
+            pendingParams.add(toParams(dto));
+            if (pendingParams.size() >= properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        /**
+         * Inserta el lote pendiente en una transacción. Si falla, reintenta cada fila por separado.
+         */
+        private void flush() {
+            if (pendingParams.isEmpty()) {
+                return;
+            }
+            try {
+                int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(INSERT_SQL, pendingParams));
+                for (int i = 0; i < counts.length; i++) {
+                    registerInsert(pendingRows.get(i), counts[i]);
+                }
+            } catch (DataAccessException e) {
+                logger.warn("Falló la inserción de un lote de {} candidatos; se reintenta fila por fila: {}",
+                        pendingParams.size(), e.getMostSpecificCause().getMessage());
+                for (int i = 0; i < pendingParams.size(); i++) {
+                    insertOne(pendingRows.get(i), pendingParams.get(i));
+                }
+            }
+            pendingRows.clear();
+            pendingParams.clear();
+        }
+
+        private void insertOne(int row, Object[] params) {
+            try {
+                registerInsert(row, jdbcTemplate.update(INSERT_SQL, params));
+            } catch (DataAccessException e) {
+                reject(row, null, "No se pudo insertar: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+
+        /**
+         * Registra el resultado de una inserción. Un conteo de 0 indica que {@code ON CONFLICT} omitió la fila;
+         * un conteo negativo ({@code SUCCESS_NO_INFO}) se toma como insertada.
+         */
+        private void registerInsert(int row, int count) {
+            if (count == 0) {
+                result.setDuplicates(result.getDuplicates() + 1);
+                addError(new ImportRowError(row, null, "Ya existe un candidato con el mismo correo o documento"));
+            } else {
+                result.setImported(result.getImported() + 1);
+            }
+        }
+
+        private void reject(int row, String field, String message) {
+            result.setFailed(result.getFailed() + 1);
+            addError(new ImportRowError(row, field, message));
+        }
+
+        private void addError(ImportRowError error) {
+            if (result.getErrors().size() < properties.getMaxErrors()) {
+                result.getErrors().add(error);
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+
+        private Object[] toParams(CandidatoCreateDTO dto) {
+            return new Object[]{
+                    dto.getNombre(),
+                    dto.getEmail(),
+                    dto.getTelefono(),
+                    dto.getTipoDocumento().name(),
+                    dto.getDocumentoIdentidad(),
+                    dto.getPaisResidencia(),
+                    dto.getCiudadResidencia(),
+                    dto.getFechaNacimiento(),
+                    dto.getGenero().name(),
+                    dto.getNivelEducativo().name(),
+                    dto.getLinkedinUrl(),
+                    EstadoCandidato.ACTIVO.name(),
+                    today,
+                    now,
+                    now,
+                    auditor,
+                    auditor
+            };
+        }
+    }
+
+    private static String fieldOf(JsonMappingException e) {
+        List<JsonMappingException.Reference> path = e.getPath();
+        return path.isEmpty() ? null : path.get(path.size() - 1).getFieldName();
+    }
+}
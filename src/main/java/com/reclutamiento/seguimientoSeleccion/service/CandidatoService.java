@@ -3,17 +3,29 @@ package com.reclutamiento.seguimientoSeleccion.service;
 import com.reclutamiento.seguimientoSeleccion.dto.*;
 import com.reclutamiento.seguimientoSeleccion.enums.ExportFormat;
 import com.reclutamiento.seguimientoSeleccion.exception.NotFoundException;
+import com.reclutamiento.seguimientoSeleccion.export.ExportCompression;
+import com.reclutamiento.seguimientoSeleccion.export.ExportDataProvider;
+import com.reclutamiento.seguimientoSeleccion.export.KeysetExportDataProvider;
+import com.reclutamiento.seguimientoSeleccion.export.StreamingExport;
 import com.reclutamiento.seguimientoSeleccion.mapper.CandidatoMapper;
 import com.reclutamiento.seguimientoSeleccion.model.Candidato;
+import com.reclutamiento.seguimientoSeleccion.repository.CandidatoField;
+import com.reclutamiento.seguimientoSeleccion.repository.CandidatoMatch;
 import com.reclutamiento.seguimientoSeleccion.repository.CandidatoRepository;
+import com.reclutamiento.seguimientoSeleccion.repository.CandidatoSpecifications;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +35,13 @@ import java.util.stream.Collectors;
  * eliminar candidatos y exportar sus datos de forma asíncrona.
  * </p>
  *
+ * <p>
+ * Las consultas se ejecutan en transacciones de solo lectura: Hibernate no guarda copias para dirty
+ * checking ni hace flush ({@code FlushMode.MANUAL}) y, si hay una réplica configurada, se envían a ella.
+ * Las modificaciones abren una transacción de escritura que incluye la lectura previa, de modo que
+ * esa lectura se hace en la base principal y no sobre una réplica con retraso.
+ * </p>
+ *
  * @see com.reclutamiento.seguimientoSeleccion.repository.CandidatoRepository
  * @see com.reclutamiento.seguimientoSeleccion.mapper.CandidatoMapper
  * @see com.reclutamiento.seguimientoSeleccion.service.AsyncExportService
@@ -31,9 +50,28 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CandidatoService {
 
+    /**
+     * Encabezados de las columnas exportadas de candidatos.
+     */
+    private static final List<String> EXPORT_HEADERS =
+            List.of("ID", "Nombre", "Correo", "Teléfono", "Estado", "Fecha Registro");
+
+    /**
+     * Extractores de valores para cada columna exportada, en el mismo orden que los encabezados.
+     */
+    private static final List<Function<CandidatoResponseDTO, Object>> EXPORT_EXTRACTORS = List.of(
+            CandidatoResponseDTO::getId,
+            CandidatoResponseDTO::getNombre,
+            CandidatoResponseDTO::getEmail,
+            CandidatoResponseDTO::getTelefono,
+            CandidatoResponseDTO::getEstado,
+            CandidatoResponseDTO::getFechaRegistro
+    );
+
     private final CandidatoRepository candidatoRepository;
     private final AsyncExportService asyncExportService;
     private final CandidatoMapper candidatoMapper;
+    private final EntityManager entityManager;
 
     /**
      * Obtiene todos los candidatos paginados.
@@ -41,12 +79,78 @@ public class CandidatoService {
      * @param pageable configuración de paginación
      * @return respuesta paginada con los candidatos
      */
+    @Transactional(readOnly = true)
     public PagedResponse<CandidatoResponseDTO> getAllCandidatos(Pageable pageable) {
         Page<Candidato> page = candidatoRepository.findAll(pageable);
         Page<CandidatoResponseDTO> dtoPage = page.map(candidatoMapper::toDTO);
         return PagedResponse.fromPage(dtoPage);
     }
 
+    /**
+     * Obtiene una página de candidatos con solo las columnas indicadas, sin cargar las entidades.
+     * <p>
+     * Pensado para pantallas de listado: se leen únicamente las columnas pedidas (el ID siempre se incluye),
+     * sin campos de auditoría ni copias para dirty checking, y la respuesta omite las columnas no pedidas.
+     * </p>
+     *
+     * @param fields   nombres de los atributos a incluir, por ejemplo {@code nombre} o {@code estado}
+     * @param pageable configuración de paginación
+     * @return respuesta paginada con los candidatos reducidos a las columnas indicadas
+     * @throws IllegalArgumentException si algún campo no está disponible
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<CandidatoSummaryDTO> getCandidatosResumen(List<String> fields, Pageable pageable) {
+        Page<CandidatoSummaryDTO> page = candidatoRepository.findAllProjected(CandidatoField.parse(fields), pageable);
+        page.forEach(candidatoMapper::fillSummaryLabels);
+        return PagedResponse.fromPage(page);
+    }
+
+    /**
+     * Busca candidatos que cumplen los filtros indicados, paginados.
+     * <p>
+     * Los filtros se aplican en la base de datos mediante {@link CandidatoSpecifications}, por lo que solo
+     * se leen y mapean los candidatos de la página solicitada.
+     * </p>
+     *
+     * @param criteria filtros de búsqueda
+     * @param pageable configuración de paginación y orden
+     * @return respuesta paginada con los candidatos que cumplen los filtros
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<CandidatoResponseDTO> searchCandidatos(CandidatoSearchCriteria criteria, Pageable pageable) {
+        Page<Candidato> page = candidatoRepository.findAll(
+                CandidatoSpecifications.fromCriteria(criteria, LocalDate.now()), pageable);
+        return PagedResponse.fromPage(page.map(candidatoMapper::toDTO));
+    }
+
+    /**
+     * Busca candidatos cuyo nombre, ciudad o país se parecen al texto indicado, tolerando errores de
+     * escritura y nombres parciales. Los resultados se ordenan por similitud y se paginan por clave.
+     *
+     * @param query      texto buscado
+     * @param size       número máximo de resultados de la página
+     * @param afterScore puntaje del último resultado de la página anterior, o {@code null} para la primera
+     * @param afterId    ID del último resultado de la página anterior, o {@code null} para la primera
+     * @return página de candidatos encontrados con la clave de la página siguiente
+     * @throws IllegalArgumentException si solo se indica uno de {@code afterScore} y {@code afterId}
+     */
+    @Transactional(readOnly = true)
+    public CandidatoMatchPage searchSimilarCandidatos(String query, int size, Float afterScore, Long afterId) {
+        if ((afterScore == null) != (afterId == null)) {
+            throw new IllegalArgumentException("afterScore y afterId deben indicarse juntos");
+        }
+        List<CandidatoMatch> matches = candidatoRepository.searchSimilar(query.trim(), afterScore, afterId, size + 1);
+        boolean last = matches.size() <= size;
+        List<CandidatoMatchDTO> content = matches.stream()
+                .limit(size)
+                .map(candidatoMapper::toMatchDTO)
+                .toList();
+        CandidatoMatchDTO tail = last || content.isEmpty() ? null : content.get(content.size() - 1);
+        return new CandidatoMatchPage(content, size, last,
+                tail != null ? tail.getScore() : null,
+                tail != null ? tail.getId() : null);
+    }
+
     /**
      * Busca un candidato por su ID.
      *
@@ -54,6 +158,7 @@ public class CandidatoService {
      * @return DTO del candidato encontrado
      * @throws NotFoundException si no se encuentra el candidato
      */
+    @Transactional(readOnly = true)
     public CandidatoResponseDTO getCandidatoById(Long id) {
         return candidatoRepository.findById(id)
                 .map(candidatoMapper::toDTO)
@@ -66,6 +171,7 @@ public class CandidatoService {
      * @param dto datos del candidato a crear
      * @return DTO del candidato creado
      */
+    @Transactional
     public CandidatoResponseDTO saveCandidato(CandidatoCreateDTO dto) {
         Candidato candidato = candidatoMapper.toEntity(dto);
         Candidato saved = candidatoRepository.save(candidato);
@@ -78,6 +184,7 @@ public class CandidatoService {
      * @param id identificador del candidato a eliminar
      * @throws NotFoundException si el candidato no existe
      */
+    @Transactional
     public void deleteCandidato(Long id) {
         if (!candidatoRepository.existsById(id)) {
             throw new NotFoundException("Candidato con ID " + id + " no encontrado");
@@ -93,6 +200,7 @@ public class CandidatoService {
      * @return DTO actualizado del candidato
      * @throws NotFoundException si el candidato no existe
      */
+    @Transactional
     public CandidatoResponseDTO updateCandidato(Long id, CandidatoUpdateDTO dto) {
         Candidato candidatoExistente = candidatoRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Candidato", "id", id));
@@ -111,6 +219,7 @@ public class CandidatoService {
      * @return DTO actualizado del candidato
      * @throws NotFoundException si el candidato no existe
      */
+    @Transactional
     public CandidatoResponseDTO actualizarParcial(Long id, CandidatoPatchDTO patchDTO) {
         Candidato candidatoOriginal = candidatoRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Candidato", "id", id));
@@ -127,6 +236,7 @@ public class CandidatoService {
      *
      * @return lista de todos los candidatos como DTO
      */
+    @Transactional(readOnly = true)
     public List<CandidatoResponseDTO> getAllCandidatos() {
         List<Candidato> candidatos = candidatoRepository.findAll();
         return candidatos.stream()
@@ -137,35 +247,90 @@ public class CandidatoService {
     /**
      * Exporta los datos de candidatos de forma asíncrona.
      * <p>
-     * Si {@code pageable} está sin paginar, se exportan todos los registros.
-     * En caso contrario, se exporta solo la página especificada.
+     * Si {@code pageable} está sin paginar, se exportan todos los registros leyendo la tabla con un
+     * cursor del servidor (memoria constante). En caso contrario, se recorren los datos por bloques
+     * con paginación por clave.
+     * </p>
+     * <p>
+     * Si se piden varios formatos, los candidatos se leen y mapean una sola vez y el resultado es un ZIP
+     * con un archivo por formato; en ese caso se ignora {@code compression}.
      * </p>
      *
-     * @param format   formato de exportación (PDF, EXCEL, CSV)
-     * @param pageable configuración de paginación o sin paginar
-     * @return ID de la exportación en proceso
+     * @param formats     formatos de exportación (PDF, EXCEL, CSV)
+     * @param compression compresión del archivo generado (ninguna, gzip o zip) cuando se pide un solo formato
+     * @param pageable    configuración de paginación o sin paginar
+     * @return ID de la exportación encolada
      */
-    public CompletableFuture<String> exportarCandidatosAsync(ExportFormat format, Pageable pageable) {
-        List<String> headers = List.of("ID", "Nombre", "Correo", "Teléfono", "Estado", "Fecha Registro");
-        List<java.util.function.Function<CandidatoResponseDTO, Object>> extractors = List.of(
+    public String exportarCandidatosAsync(Set<ExportFormat> formats, ExportCompression compression, Pageable pageable) {
+        if (formats.size() == 1) {
+            ExportFormat format = formats.iterator().next();
+            if (pageable.isUnpaged()) {
+                return asyncExportService.exportStream(format, compression, EXPORT_HEADERS, EXPORT_EXTRACTORS,
+                        () -> candidatoRepository.streamAll().map(this::toDetachedDTO),
+                        candidatoRepository::count);
+            }
+            return asyncExportService.exportKeyset(format, compression, EXPORT_HEADERS, EXPORT_EXTRACTORS,
+                    this::findSliceAfter,
+                    CandidatoResponseDTO::getId,
+                    candidatoRepository::count,
+                    candidatoRepository::findSplitIds);
+        }
+        if (pageable.isUnpaged()) {
+            return asyncExportService.exportStream(formats, EXPORT_HEADERS, EXPORT_EXTRACTORS,
+                    () -> candidatoRepository.streamAll().map(this::toDetachedDTO),
+                    candidatoRepository::count);
+        }
+        return asyncExportService.exportKeyset(formats, EXPORT_HEADERS, EXPORT_EXTRACTORS,
+                this::findSliceAfter,
                 CandidatoResponseDTO::getId,
-                CandidatoResponseDTO::getNombre,
-                CandidatoResponseDTO::getEmail,
-                CandidatoResponseDTO::getTelefono,
-                CandidatoResponseDTO::getEstado,
-                CandidatoResponseDTO::getFechaRegistro
+                candidatoRepository::count,
+                candidatoRepository::findSplitIds);
+    }
+
+    /**
+     * Prepara una exportación de todos los candidatos que se escribe en streaming sobre la respuesta.
+     * <p>
+     * Los registros se leen por bloques (paginación por clave) desde la base de datos durante la escritura,
+     * por lo que el consumo de memoria se mantiene constante sin importar el volumen exportado.
+     * </p>
+     *
+     * @param format formato de exportación (debe soportar streaming, por ejemplo CSV)
+     * @return exportación lista para escribirse en el cuerpo de la respuesta
+     */
+    public StreamingExport exportarCandidatosStream(ExportFormat format) {
+        ExportDataProvider<CandidatoResponseDTO> provider = new KeysetExportDataProvider<>(
+                this::findSliceAfter,
+                CandidatoResponseDTO::getId,
+                candidatoRepository::count,
+                EXPORT_HEADERS,
+                EXPORT_EXTRACTORS,
+                candidatoRepository::findSplitIds
         );
+        return asyncExportService.prepareStreamingExport(format, provider);
+    }
 
-        if (pageable.isUnpaged()) {
-            List<CandidatoResponseDTO> all = candidatoRepository.findAll()
-                    .stream()
-                    .map(candidatoMapper::toDTO)
-                    .toList();
-
-            return asyncExportService.exportAll(format, headers, extractors, all);
-        } else {
-            return asyncExportService.exportPaged(format, headers, extractors, pageable,
-                    page -> candidatoRepository.findAll(page).map(candidatoMapper::toDTO));
-        }
+    /**
+     * Convierte un candidato leído desde un flujo a DTO y lo separa del contexto de persistencia,
+     * para que las entidades ya exportadas puedan ser recolectadas y la memoria se mantenga constante.
+     *
+     * @param candidato entidad leída desde el cursor
+     * @return DTO del candidato
+     */
+    private CandidatoResponseDTO toDetachedDTO(Candidato candidato) {
+        CandidatoResponseDTO dto = candidatoMapper.toDTO(candidato);
+        entityManager.detach(candidato);
+        return dto;
+    }
+
+    /**
+     * Obtiene el bloque de candidatos siguiente al último ID leído, ya convertido a DTO.
+     *
+     * @param lastId   último ID leído en el bloque anterior
+     * @param pageable tamaño del bloque
+     * @return bloque de candidatos ordenados por ID
+     */
+    private Slice<CandidatoResponseDTO> findSliceAfter(Long lastId, Pageable pageable) {
+        return candidatoRepository.findByIdGreaterThanOrderByIdAsc(lastId, pageable)
+                .map(candidatoMapper::toDTO);
     }
 }
@@ -0,0 +1,151 @@
+package com.reclutamiento.seguimientoSeleccion.service;
+
+import com.reclutamiento.seguimientoSeleccion.enums.ExportFormat;
+import com.reclutamiento.seguimientoSeleccion.enums.ExportJobStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Trabajo de exportación asíncrona administrado por el {@link ExportScheduler}.
+ * <p>
+ * Guarda el estado del trabajo y el número de filas leídas hasta el momento, que se actualiza
+ * desde los hilos de la exportación y se consulta desde el API de estado.
+ * </p>
+ *
+ * <p>
+ * Transiciones: {@code QUEUED → RUNNING → DONE | FAILED}, y {@code QUEUED | RUNNING → CANCELLED}.
+ * Un trabajo terminado no cambia de estado, por lo que una cancelación no puede ser sobrescrita por el
+ * hilo que aún está generando el archivo.
+ * </p>
+ */
+@Getter
+public class ExportJob {
+
+    /**
+     * Identificador único; también es la clave del resultado en el almacenamiento de exportaciones.
+     */
+    private final String id;
+
+    private final ExportFormat format;
+
+    /**
+     * Número de filas estimado al encolar el trabajo; determina su prioridad.
+     */
+    private final long totalRows;
+
+    /**
+     * Orden de llegada, usado para desempatar trabajos del mismo tamaño.
+     */
+    private final long sequence;
+
+    private final Instant submittedAt = Instant.now();
+
+    private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String errorMessage;
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder processedRows = new LongAdder();
+
+    /**
+     * Exportación pendiente; se suelta al iniciarla para no retener sus datos mientras se conserva el estado.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile Consumer<ExportJob> task;
+
+    ExportJob(String id, ExportFormat format, long totalRows, long sequence, Consumer<ExportJob> task) {
+        this.id = id;
+        this.format = format;
+        this.totalRows = totalRows;
+        this.sequence = sequence;
+        this.task = task;
+    }
+
+    /**
+     * Suma filas leídas por la exportación.
+     *
+     * @param rows filas leídas en el último bloque
+     */
+    public void addProcessedRows(int rows) {
+        processedRows.add(rows);
+    }
+
+    /**
+     * @return filas leídas hasta el momento
+     */
+    public long getProcessedRows() {
+        return processedRows.sum();
+    }
+
+    /**
+     * @return porcentaje de avance entre 0 y 100
+     */
+    public int getProgressPercent() {
+        if (status == ExportJobStatus.DONE) {
+            return 100;
+        }
+        if (totalRows <= 0) {
+            return 0;
+        }
+        return (int) Math.min(99, getProcessedRows() * 100 / totalRows);
+    }
+
+    /**
+     * Entrega la exportación a ejecutar y deja de referenciarla.
+     */
+    Consumer<ExportJob> takeTask() {
+        Consumer<ExportJob> pending = task;
+        task = null;
+        return pending;
+    }
+
+    /**
+     * @return {@code true} si el trabajo fue cancelado; la exportación en curso debe detenerse
+     */
+    public boolean isCancelled() {
+        return status == ExportJobStatus.CANCELLED;
+    }
+
+    synchronized boolean markRunning() {
+        if (status != ExportJobStatus.QUEUED) {
+            return false;
+        }
+        startedAt = Instant.now();
+        status = ExportJobStatus.RUNNING;
+        return true;
+    }
+
+    synchronized void markCompleted() {
+        if (status == ExportJobStatus.RUNNING) {
+            finishedAt = Instant.now();
+            status = ExportJobStatus.DONE;
+        }
+    }
+
+    synchronized void markFailed(String message) {
+        if (!status.isFinished()) {
+            errorMessage = message;
+            finishedAt = Instant.now();
+            status = ExportJobStatus.FAILED;
+        }
+    }
+
+    /**
+     * Cancela el trabajo si aún no terminó.
+     *
+     * @return {@code true} si el trabajo pasó a {@link ExportJobStatus#CANCELLED}
+     */
+    synchronized boolean markCancelled() {
+        if (status.isFinished()) {
+            return false;
+        }
+        finishedAt = Instant.now();
+        status = ExportJobStatus.CANCELLED;
+        return true;
+    }
+}
@@ -0,0 +1,154 @@
+package com.reclutamiento.seguimientoSeleccion.service;
+
+import com.reclutamiento.seguimientoSeleccion.enums.ExportFormat;
+import com.reclutamiento.seguimientoSeleccion.export.ExportResultCache;
+import com.reclutamiento.seguimientoSeleccion.export.ExportStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Métricas de Micrometer de las exportaciones, publicadas en {@code /actuator/prometheus}.
+ *
+ * <ul>
+ *     <li>{@code export.duration}: tiempo de generación por formato y resultado ({@code outcome}).</li>
+ *     <li>{@code export.rows}: filas exportadas por formato; su tasa da las filas por segundo.</li>
+ *     <li>{@code export.size}: tamaño en bytes de cada archivo generado por formato.</li>
+ *     <li>{@code export.executor.*}: hilos activos y tareas en cola del ejecutor {@code exportJobExecutor},
+ *     cuando usa un pool de hilos de plataforma.</li>
+ *     <li>{@code export.queue.waiting} y {@code export.queue.running}: trabajos en espera y en ejecución
+ *     por formato en el {@link ExportScheduler}.</li>
+ *     <li>{@code export.storage.*}: tamaño, uso del heap y contadores del almacenamiento de resultados.</li>
+ * </ul>
+ *
+ * <p>Los tiempos se miden con {@link System#nanoTime()}.</p>
+ */
+@Component
+public class ExportMetrics {
+
+    private final Map<ExportFormat, FormatMeters> successMeters = new EnumMap<>(ExportFormat.class);
+    private final Map<ExportFormat, Timer> failureTimers = new EnumMap<>(ExportFormat.class);
+
+    /**
+     * Registra los medidores de exportación, del ejecutor asíncrono y del almacenamiento.
+     *
+     * @param registry      registro de métricas
+     * @param exportStorage almacenamiento de resultados de exportación
+     * @param jobExecutor   ejecutor de los trabajos de exportación
+     * @param scheduler     planificador de las exportaciones por formato
+     */
+    public ExportMetrics(MeterRegistry registry,
+                         ExportStorage exportStorage,
+                         @Qualifier("exportJobExecutor") Executor jobExecutor,
+                         ExportScheduler scheduler) {
+        for (ExportFormat format : ExportFormat.values()) {
+            String tag = format.name().toLowerCase();
+            successMeters.put(format, new FormatMeters(
+                    Timer.builder("export.duration")
+                            .description("Tiempo de generación de exportaciones")
+                            .tags("format", tag, "outcome", "success")
+                            .register(registry),
+                    Counter.builder("export.rows")
+                            .description("Filas exportadas")
+                            .baseUnit("rows")
+                            .tag("format", tag)
+                            .register(registry),
+                    DistributionSummary.builder("export.size")
+                            .description("Tamaño de los archivos exportados")
+                            .baseUnit("bytes")
+                            .tag("format", tag)
+                            .register(registry)
+            ));
+            failureTimers.put(format, Timer.builder("export.duration")
+                    .description("Tiempo de generación de exportaciones")
+                    .tags("format", tag, "outcome", "failure")
+                    .register(registry));
+            Gauge.builder("export.queue.waiting", scheduler, s -> s.getQueuedCount(format))
+                    .description("Exportaciones en espera en la cola del formato")
+                    .tag("format", tag)
+                    .register(registry);
+            Gauge.builder("export.queue.running", scheduler, s -> s.getRunningCount(format))
+                    .description("Exportaciones del formato en ejecución")
+                    .tag("format", tag)
+                    .register(registry);
+        }
+
+        if (jobExecutor instanceof ThreadPoolTaskExecutor pool) {
+            Gauge.builder("export.executor.active", pool, ThreadPoolTaskExecutor::getActiveCount)
+                    .description("Exportaciones en ejecución")
+                    .register(registry);
+            Gauge.builder("export.executor.queued", pool, p -> p.getThreadPoolExecutor().getQueue().size())
+                    .description("Exportaciones en espera en la cola del ejecutor")
+                    .register(registry);
+        }
+
+        registerStorageGauge(registry, exportStorage, "export.storage.entries", "Resultados almacenados",
+                null, ExportResultCache.Stats::entries);
+        registerStorageGauge(registry, exportStorage, "export.storage.size", "Tamaño total de los resultados almacenados",
+                "bytes", ExportResultCache.Stats::totalBytes);
+        registerStorageGauge(registry, exportStorage, "export.storage.heap", "Bytes de resultados que residen en el heap",
+                "bytes", ExportResultCache.Stats::heapBytes);
+        registerStorageGauge(registry, exportStorage, "export.storage.reserved",
+                "Bytes reservados por exportaciones que aún se están escribiendo", "bytes",
+                ExportResultCache.Stats::reservedBytes);
+        registerStorageCounter(registry, exportStorage, "export.storage.hits", ExportResultCache.Stats::hits);
+        registerStorageCounter(registry, exportStorage, "export.storage.misses", ExportResultCache.Stats::misses);
+        registerStorageCounter(registry, exportStorage, "export.storage.evictions", ExportResultCache.Stats::evictions);
+        registerStorageCounter(registry, exportStorage, "export.storage.expirations", ExportResultCache.Stats::expirations);
+    }
+
+    /**
+     * Registra una exportación completada.
+     *
+     * @param format       formato de exportación
+     * @param rows         filas exportadas
+     * @param bytes        tamaño del archivo generado
+     * @param elapsedNanos duración medida con {@link System#nanoTime()}
+     */
+    public void recordSuccess(ExportFormat format, long rows, long bytes, long elapsedNanos) {
+        FormatMeters meters = successMeters.get(format);
+        meters.duration().record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meters.rows().increment(rows);
+        meters.size().record(bytes);
+    }
+
+    /**
+     * Registra una exportación fallida.
+     *
+     * @param format       formato de exportación
+     * @param elapsedNanos tiempo transcurrido hasta el fallo, medido con {@link System#nanoTime()}
+     */
+    public void recordFailure(ExportFormat format, long elapsedNanos) {
+        failureTimers.get(format).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static void registerStorageGauge(MeterRegistry registry, ExportStorage storage, String name,
+                                             String description, String baseUnit,
+                                             ToDoubleFunction<ExportResultCache.Stats> value) {
+        Gauge.builder(name, storage, s -> value.applyAsDouble(s.stats()))
+                .description(description)
+                .baseUnit(baseUnit)
+                .register(registry);
+    }
+
+    private static void registerStorageCounter(MeterRegistry registry, ExportStorage storage, String name,
+                                               ToDoubleFunction<ExportResultCache.Stats> value) {
+        FunctionCounter.builder(name, storage, s -> value.applyAsDouble(s.stats()))
+                .register(registry);
+    }
+
+    private record FormatMeters(Timer duration, Counter rows, DistributionSummary size) {
+    }
+}
@@ -0,0 +1,267 @@
+package com.reclutamiento.seguimientoSeleccion.service;
+
+import com.reclutamiento.seguimientoSeleccion.config.ExportSchedulerProperties;
+import com.reclutamiento.seguimientoSeleccion.enums.ExportFormat;
+import com.reclutamiento.seguimientoSeleccion.enums.ExportJobStatus;
+import com.reclutamiento.seguimientoSeleccion.exception.ExportQueueFullException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Planificador de las exportaciones asíncronas.
+ * <p>
+ * Cada {@link ExportFormat} tiene un carril con un máximo de exportaciones simultáneas y una cola de
+ * espera acotada. La cola es de prioridad: primero los trabajos con menos filas y, a igual tamaño, los
+ * que llegaron antes, de modo que una exportación pequeña no espera detrás de una de cientos de miles
+ * de filas. Como los carriles son independientes, los formatos pesados (PDF, Excel) no ocupan los
+ * turnos de los ligeros.
+ * </p>
+ *
+ * <p>
+ * Si la cola del formato está llena, {@link #submit} lanza {@link ExportQueueFullException}, que se
+ * responde con {@code 429 Too Many Requests} y la cabecera {@code Retry-After}. Los trabajos se
+ * ejecutan en el ejecutor {@code exportJobExecutor}, que tiene un hilo por cada turno de los carriles; al
+ * terminar uno, su hilo despacha el siguiente del carril.
+ * </p>
+ *
+ * <p>
+ * {@link #cancel} retira de la cola un trabajo en espera. Un trabajo en ejecución se detiene de forma
+ * cooperativa: la exportación consulta {@link ExportJob#isCancelled()} antes de leer cada bloque y
+ * termina con {@link CancellationException}; su turno se libera en cuanto el hilo sale.
+ * </p>
+ */
+@Service
+public class ExportScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportScheduler.class);
+
+    /**
+     * Orden de la cola: menos filas primero y, a igual tamaño, orden de llegada.
+     */
+    private static final Comparator<ExportJob> PRIORITY = Comparator
+            .comparingLong(ExportJob::getTotalRows)
+            .thenComparingLong(ExportJob::getSequence);
+
+    private final Executor executor;
+    private final int queueCapacity;
+    private final long retryAfterSeconds;
+    private final Map<ExportFormat, Lane> lanes = new EnumMap<>(ExportFormat.class);
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Crea un carril por formato con los límites configurados.
+     *
+     * @param properties propiedades de planificación de exportaciones
+     * @param executor   ejecutor donde corren las exportaciones, con un hilo por turno de los carriles
+     */
+    public ExportScheduler(ExportSchedulerProperties properties, @Qualifier("exportJobExecutor") Executor executor) {
+        this.executor = executor;
+        this.queueCapacity = properties.getQueueCapacity();
+        this.retryAfterSeconds = Math.max(1, properties.getRetryAfter().toSeconds());
+        for (ExportFormat format : ExportFormat.values()) {
+            lanes.put(format, new Lane(properties.getMaxConcurrent().getByFormat(format)));
+        }
+    }
+
+    /**
+     * Encola un trabajo de exportación, o lo inicia de inmediato si hay un turno libre en su formato.
+     *
+     * @param format    formato de exportación
+     * @param totalRows número de filas estimado, usado como prioridad
+     * @param task      exportación a ejecutar; recibe el trabajo para reportar su avance
+     * @return trabajo creado
+     * @throws ExportQueueFullException si la cola del formato está llena
+     */
+    public ExportJob submit(ExportFormat format, long totalRows, Consumer<ExportJob> task) {
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), format, totalRows,
+                sequence.incrementAndGet(), task);
+        Lane lane = lanes.get(format);
+
+        boolean startNow;
+        synchronized (lane) {
+            if (lane.running < lane.maxConcurrent) {
+                lane.running++;
+                startNow = true;
+            } else if (lane.queue.size() < queueCapacity) {
+                lane.queue.add(job);
+                startNow = false;
+            } else {
+                logger.warn("Cola de exportaciones {} llena ({} en espera); se rechaza la solicitud",
+                        format, lane.queue.size());
+                throw new ExportQueueFullException(format, retryAfterSeconds);
+            }
+            jobs.put(job.getId(), job);
+        }
+
+        if (startNow) {
+            dispatch(lane, job);
+        }
+        return job;
+    }
+
+    /**
+     * Obtiene un trabajo por su identificador.
+     *
+     * @param jobId identificador del trabajo
+     * @return el trabajo o {@code null} si no existe o ya fue retirado
+     */
+    public ExportJob getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    /**
+     * Cancela un trabajo en espera o en ejecución.
+     *
+     * @param jobId identificador del trabajo
+     * @return el trabajo con su estado actual, o {@code null} si no existe
+     */
+    public ExportJob cancel(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            return null;
+        }
+        Lane lane = lanes.get(job.getFormat());
+        synchronized (lane) {
+            if (job.markCancelled() && lane.queue.remove(job)) {
+                job.takeTask();
+            }
+        }
+        logger.info("Exportación {} ({}) en estado {} tras solicitar su cancelación", jobId, job.getFormat(), job.getStatus());
+        return job;
+    }
+
+    /**
+     * Calcula la posición de un trabajo en la cola de su formato.
+     *
+     * @param job trabajo a consultar
+     * @return posición desde 1, o 0 si el trabajo no está en espera
+     */
+    public int getQueuePosition(ExportJob job) {
+        if (job.getStatus() != ExportJobStatus.QUEUED) {
+            return 0;
+        }
+        Lane lane = lanes.get(job.getFormat());
+        synchronized (lane) {
+            if (!lane.queue.contains(job)) {
+                return 0;
+            }
+            int ahead = 0;
+            for (ExportJob other : lane.queue) {
+                if (PRIORITY.compare(other, job) < 0) {
+                    ahead++;
+                }
+            }
+            return ahead + 1;
+        }
+    }
+
+    /**
+     * @param format formato de exportación
+     * @return trabajos en espera en la cola del formato
+     */
+    public int getQueuedCount(ExportFormat format) {
+        Lane lane = lanes.get(format);
+        synchronized (lane) {
+            return lane.queue.size();
+        }
+    }
+
+    /**
+     * @param format formato de exportación
+     * @return trabajos del formato en ejecución
+     */
+    public int getRunningCount(ExportFormat format) {
+        Lane lane = lanes.get(format);
+        synchronized (lane) {
+            return lane.running;
+        }
+    }
+
+    /**
+     * Retira los trabajos terminados hace más tiempo que el indicado.
+     *
+     * @param retention tiempo que se conserva el estado de un trabajo terminado
+     */
+    public void purgeFinished(Duration retention) {
+        Instant limit = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.getStatus().isFinished() && job.getFinishedAt().isBefore(limit));
+    }
+
+    private void dispatch(Lane lane, ExportJob job) {
+        try {
+            executor.execute(() -> run(lane, job));
+        } catch (RejectedExecutionException e) {
+            logger.error("El ejecutor rechazó la exportación {}: {}", job.getId(), e.getMessage());
+            job.takeTask();
+            job.markFailed(e.getMessage());
+            release(lane);
+        }
+    }
+
+    private void run(Lane lane, ExportJob job) {
+        Consumer<ExportJob> task = job.takeTask();
+        if (task == null || !job.markRunning()) {
+            release(lane);
+            return;
+        }
+        try {
+            task.accept(job);
+            job.markCompleted();
+        } catch (CancellationException e) {
+            logger.info("Exportación {} ({}) detenida tras {} filas por cancelación",
+                    job.getId(), job.getFormat(), job.getProcessedRows());
+        } catch (RuntimeException e) {
+            logger.error("Error en la exportación {} ({}): {}", job.getId(), job.getFormat(), e.getMessage(), e);
+            job.markFailed(e.getMessage());
+        } finally {
+            release(lane);
+        }
+    }
+
+    /**
+     * Libera el turno de un trabajo terminado y, si hay otro en espera, se lo cede.
+     */
+    private void release(Lane lane) {
+        ExportJob next;
+        synchronized (lane) {
+            next = lane.queue.poll();
+            if (next == null) {
+                lane.running--;
+            }
+        }
+        if (next != null) {
+            dispatch(lane, next);
+        }
+    }
+
+    /**
+     * Carril de un formato: trabajos en ejecución y cola de espera. Se sincroniza sobre la propia instancia.
+     */
+    private static final class Lane {
+
+        private final int maxConcurrent;
+        private final PriorityQueue<ExportJob> queue = new PriorityQueue<>(PRIORITY);
+        private int running;
+
+        private Lane(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.reclutamiento.seguimientoSeleccion.util;
+
+import com.reclutamiento.seguimientoSeleccion.config.I18nProperties;
+import com.reclutamiento.seguimientoSeleccion.enums.EstadoCandidato;
+import com.reclutamiento.seguimientoSeleccion.enums.ExportFormat;
+import com.reclutamiento.seguimientoSeleccion.enums.Genero;
+import com.reclutamiento.seguimientoSeleccion.enums.LocalizableEnum;
+import com.reclutamiento.seguimientoSeleccion.enums.NivelEducativo;
+import com.reclutamiento.seguimientoSeleccion.enums.TipoDocumento;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Catálogo precalculado de etiquetas localizadas para los enums que implementan {@link LocalizableEnum}.
+ * <p>
+ * Para cada idioma configurado en {@code app.i18n.supported-locales} y cada tipo de enum se construye
+ * una tabla {@link EnumMap} con la etiqueta de cada constante, resuelta una sola vez con el
+ * {@link MessageSource}. Obtener una etiqueta es entonces una búsqueda en tablas inmutables, sin
+ * formateo de mensajes ni asignaciones.
+ * </p>
+ *
+ * <p>
+ * Las tablas se reconstruyen en cada {@link ContextRefreshedEvent} o llamando a {@link #rebuild()},
+ * por ejemplo después de recargar los mensajes. Los idiomas no configurados se resuelven con
+ * {@link EnumLabelUtil#getLabel} sin caché.
+ * </p>
+ */
+@Component
+public class EnumLabelCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnumLabelCatalog.class);
+
+    /**
+     * Tipos de enum cuyas etiquetas se precalculan.
+     */
+    private static final List<Class<? extends Enum<?>>> LABELED_ENUMS = List.of(
+            EstadoCandidato.class,
+            Genero.class,
+            NivelEducativo.class,
+            TipoDocumento.class,
+            ExportFormat.class
+    );
+
+    private final MessageSource messageSource;
+    private final List<Locale> supportedLocales;
+
+    /**
+     * Tablas de etiquetas por idioma exacto y por código de idioma. Se reemplazan completas al reconstruir.
+     */
+    private volatile Tables tables;
+
+    /**
+     * Crea el catálogo y construye las tablas iniciales.
+     *
+     * @param messageSource fuente de mensajes de Spring
+     * @param properties    configuración con los idiomas soportados
+     */
+    public EnumLabelCatalog(MessageSource messageSource, I18nProperties properties) {
+        this.messageSource = messageSource;
+        this.supportedLocales = List.copyOf(properties.getSupportedLocales());
+        rebuild();
+    }
+
+    /**
+     * Reconstruye las tablas al refrescarse el contexto de la aplicación.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed() {
+        rebuild();
+    }
+
+    /**
+     * Vuelve a resolver todas las etiquetas con el {@link MessageSource} y reemplaza las tablas.
+     */
+    public void rebuild() {
+        Map<Locale, Map<Class<?>, EnumMap<?, String>>> byLocale = new HashMap<>();
+        Map<String, Map<Class<?>, EnumMap<?, String>>> byLanguage = new HashMap<>();
+
+        for (Locale locale : supportedLocales) {
+            Map<Class<?>, EnumMap<?, String>> byType = new HashMap<>();
+            for (Class<? extends Enum<?>> type : LABELED_ENUMS) {
+                byType.put(type, buildTable(type, locale));
+            }
+            Map<Class<?>, EnumMap<?, String>> immutable = Map.copyOf(byType);
+            byLocale.put(locale, immutable);
+            byLanguage.putIfAbsent(locale.getLanguage(), immutable);
+        }
+
+        this.tables = new Tables(Map.copyOf(byLocale), Map.copyOf(byLanguage));
+        logger.debug("Catálogo de etiquetas de enums construido para {}", supportedLocales);
+    }
+
+    /**
+     * Devuelve la etiqueta localizada de una constante de enum.
+     * <p>
+     * Busca primero el idioma exacto y luego solo el código de idioma (por ejemplo {@code es} para
+     * {@code es_CO}). Si el idioma o el tipo no están precalculados, se consulta el {@link MessageSource}.
+     * </p>
+     *
+     * @param value  constante del enum
+     * @param locale localización actual
+     * @param <E>    tipo del enum
+     * @return etiqueta localizada, o {@code null} si {@code value} es {@code null}
+     */
+    public <E extends Enum<E> & LocalizableEnum> String getLabel(E value, Locale locale) {
+        if (value == null) {
+            return null;
+        }
+
+        Tables current = tables;
+        Map<Class<?>, EnumMap<?, String>> byType = current.byLocale().get(locale);
+        if (byType == null) {
+            byType = current.byLanguage().get(locale.getLanguage());
+        }
+
+        EnumMap<?, String> table = byType != null ? byType.get(value.getDeclaringClass()) : null;
+        if (table == null) {
+            return EnumLabelUtil.getLabel(value, messageSource, locale);
+        }
+        return table.get(value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private EnumMap<?, String> buildTable(Class<? extends Enum<?>> type, Locale locale) {
+        EnumMap table = new EnumMap(type);
+        for (Enum<?> constant : type.getEnumConstants()) {
+            table.put(constant, EnumLabelUtil.getLabel((LocalizableEnum) constant, messageSource, locale));
+        }
+        return table;
+    }
+
+    private record Tables(Map<Locale, Map<Class<?>, EnumMap<?, String>>> byLocale,
+                          Map<String, Map<Class<?>, EnumMap<?, String>>> byLanguage) {
+    }
+}
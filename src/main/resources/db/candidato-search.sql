@@ -0,0 +1,14 @@
+-- Búsqueda aproximada de candidatos por nombre, ciudad y país (pg_trgm).
+-- Es idempotente. Aplicarlo con la migración de base de datos, o al iniciar con el perfil search-init
+-- (spring.sql.init). Crear la extensión requiere privilegios que un rol normal de la aplicación no tiene.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_candidato_nombre_trgm
+    ON candidato USING gin (nombre gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_candidato_ciudad_trgm
+    ON candidato USING gin (ciudad_residencia gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_candidato_pais_trgm
+    ON candidato USING gin (pais_residencia gin_trgm_ops);
@@ -0,0 +1,127 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExcelExporterTest {
+
+	private static final int DATA_ROWS_PER_SHEET = 49_999;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void keysetExportOfSeveralSheetsRendersEachRangeInParallel() throws Exception {
+		// IDs con huecos, como tras borrar registros: 1, 4, 7...
+		List<Long> ids = ids(2 * DATA_ROWS_PER_SHEET + 3, 3);
+		Set<Thread> readers = ConcurrentHashMap.newKeySet();
+		AtomicInteger splitCalls = new AtomicInteger();
+		KeysetExportDataProvider<Long> provider = provider(ids, readers, step -> {
+			splitCalls.incrementAndGet();
+			return splitKeys(ids, step);
+		});
+
+		byte[] parallel = new ExcelExporter<Long>(2, executor, ColumnWidthMode.OFF, 1).export(provider);
+		byte[] sequential = new ExcelExporter<Long>().export(provider(ids, ConcurrentHashMap.newKeySet(), null));
+
+		assertThat(splitCalls).hasValue(1);
+		assertThat(readers).isNotEmpty().doesNotContain(Thread.currentThread());
+		List<List<Long>> sheets = readSheets(parallel);
+		assertThat(sheets).extracting(List::size).containsExactly(DATA_ROWS_PER_SHEET, DATA_ROWS_PER_SHEET, 3);
+		assertThat(sheets.stream().flatMap(List::stream).toList()).isEqualTo(ids);
+		assertThat(sheets).isEqualTo(readSheets(sequential));
+	}
+
+	@Test
+	void keysetRangeStopsAtItsLastKey() {
+		List<Long> ids = ids(10, 1);
+		KeysetExportDataProvider<Long> provider = provider(ids, ConcurrentHashMap.newKeySet(), step -> List.of(4L, 8L));
+
+		List<ExportDataProvider<Long>> parts = provider.split(4);
+
+		assertThat(parts).hasSize(3);
+		// Si desaparecen filas del primer rango, su lectura no invade el siguiente
+		assertThat(parts.get(0).getData(0, 100)).containsExactly(1L, 2L, 3L, 4L);
+		assertThat(parts.get(1).getData(0, 4)).containsExactly(5L, 6L, 7L, 8L);
+		assertThat(parts.get(2).getTotalCount()).isEqualTo(2);
+		assertThat(parts.get(2).getData(0, 2)).containsExactly(9L, 10L);
+	}
+
+	private static List<Long> ids(int count, int gap) {
+		List<Long> ids = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			ids.add(1L + (long) i * gap);
+		}
+		return ids;
+	}
+
+	private static List<Long> splitKeys(List<Long> ids, int step) {
+		List<Long> keys = new ArrayList<>();
+		for (int position = step; position <= ids.size(); position += step) {
+			keys.add(ids.get(position - 1));
+		}
+		return keys;
+	}
+
+	private static KeysetExportDataProvider<Long> provider(List<Long> ids, Set<Thread> readers,
+														   IntFunction<List<Long>> splitKeys) {
+		List<Function<Long, Object>> extractors = List.of(id -> id, id -> "Candidato " + id);
+		return new KeysetExportDataProvider<>(
+				(lastId, pageable) -> {
+					readers.add(Thread.currentThread());
+					return sliceAfter(ids, lastId, pageable);
+				},
+				Function.identity(),
+				ids::size,
+				List.of("id", "nombre"),
+				extractors,
+				splitKeys);
+	}
+
+	private static Slice<Long> sliceAfter(List<Long> ids, long lastId, Pageable pageable) {
+		int position = Collections.binarySearch(ids, lastId);
+		int from = position >= 0 ? position + 1 : -position - 1;
+		int to = Math.min(ids.size(), from + pageable.getPageSize());
+		return new SliceImpl<>(ids.subList(from, to), pageable, to < ids.size());
+	}
+
+	private static List<List<Long>> readSheets(byte[] xlsx) throws Exception {
+		List<List<Long>> sheets = new ArrayList<>();
+		try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(xlsx))) {
+			for (Sheet sheet : workbook) {
+				List<Long> rows = new ArrayList<>();
+				for (Row row : sheet) {
+					if (row.getRowNum() > 0) {
+						rows.add((long) row.getCell(0).getNumericCellValue());
+					}
+				}
+				sheets.add(rows);
+			}
+		}
+		return sheets;
+	}
+}
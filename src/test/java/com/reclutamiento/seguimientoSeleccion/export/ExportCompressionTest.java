@@ -0,0 +1,73 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportCompressionTest {
+
+	private static final String CSV = "text/csv";
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"gzip",
+			"GZIP",
+			"gzip, deflate, br",
+			"br;q=1.0, gzip;q=0.8",
+			"gzip; q=0.001",
+			"*",
+			"*;q=0.5",
+			"deflate, *;q=0.1",
+			"*;q=0, gzip;q=0.5"
+	})
+	void gzipsTextWhenTheClientAcceptsIt(String acceptEncoding) {
+		assertThat(ExportCompression.shouldGzipResponse(CSV, acceptEncoding)).isTrue();
+	}
+
+	@ParameterizedTest
+	@NullSource
+	@ValueSource(strings = {
+			"",
+			"identity",
+			"deflate, br",
+			"gzip;q=0",
+			"gzip;Q=0.000",
+			"gzip;q=abc",
+			"*;q=0",
+			"gzip;q=0, *",
+			"*, gzip;q=0",
+			"x-gzip-custom"
+	})
+	void doesNotGzipWhenTheClientRefusesIt(String acceptEncoding) {
+		assertThat(ExportCompression.shouldGzipResponse(CSV, acceptEncoding)).isFalse();
+	}
+
+	@Test
+	void doesNotGzipAlreadyCompressedFormats() {
+		assertThat(ExportCompression.shouldGzipResponse(
+				"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "gzip")).isFalse();
+		assertThat(ExportCompression.shouldGzipResponse("application/pdf", "gzip")).isFalse();
+		assertThat(ExportCompression.shouldGzipResponse(null, "gzip")).isFalse();
+	}
+
+	@Test
+	void gzipWrapperProducesTheOriginalContent() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ExportCompression.GZIP.wrap("datos.csv", target -> target.write("id,nombre\n1,Ana\n".getBytes(StandardCharsets.UTF_8)))
+				.write(out);
+
+		try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("id,nombre\n1,Ana\n");
+		}
+		assertThat(ExportCompression.GZIP.getFilename("datos.csv")).isEqualTo("datos.csv.gz");
+		assertThat(ExportCompression.ZIP.getFilename("datos.csv")).isEqualTo("datos.zip");
+	}
+}
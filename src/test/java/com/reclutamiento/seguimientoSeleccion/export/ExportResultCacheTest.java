@@ -0,0 +1,135 @@
+package com.reclutamiento.seguimientoSeleccion.export;
+
+import com.reclutamiento.seguimientoSeleccion.dto.ExportResult;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportResultCacheTest {
+
+	private static final Duration TTL = Duration.ofMinutes(10);
+
+	private final List<ExportResult> released = new ArrayList<>();
+
+	@Test
+	void evictsLeastRecentlyUsedEntriesToStayWithinBudget() {
+		ExportResultCache cache = new ExportResultCache(100, TTL, released::add);
+		ExportResult a = result(40);
+		ExportResult b = result(40);
+		ExportResult c = result(40);
+		cache.put("a", a);
+		cache.put("b", b);
+		cache.get("a"); // "b" pasa a ser la menos usada
+
+		cache.put("c", c);
+
+		assertThat(cache.get("a")).isSameAs(a);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("c")).isSameAs(c);
+		assertThat(released).containsExactly(b);
+		ExportResultCache.Stats stats = cache.stats();
+		assertThat(stats.entries()).isEqualTo(2);
+		assertThat(stats.totalBytes()).isEqualTo(80);
+		assertThat(stats.evictions()).isEqualTo(1);
+	}
+
+	@Test
+	void rejectsResultLargerThanBudgetWithoutEvicting() {
+		ExportResultCache cache = new ExportResultCache(100, TTL, released::add);
+		ExportResult kept = result(60);
+		ExportResult tooLarge = result(101);
+		cache.put("kept", kept);
+
+		assertThatThrownBy(() -> cache.put("big", tooLarge)).isInstanceOf(IllegalStateException.class);
+
+		assertThat(cache.get("kept")).isSameAs(kept);
+		assertThat(released).containsExactly(tooLarge);
+	}
+
+	@Test
+	void expiredEntriesAreNotReturnedAndAreReleased() {
+		ExportResultCache cache = new ExportResultCache(100, Duration.ZERO, released::add);
+		ExportResult a = result(10);
+		ExportResult b = result(10);
+		cache.put("a", a);
+		cache.put("b", b);
+
+		assertThat(cache.get("a")).isNull();
+		cache.purgeExpired();
+
+		assertThat(released).containsExactly(a, b);
+		ExportResultCache.Stats stats = cache.stats();
+		assertThat(stats.entries()).isZero();
+		assertThat(stats.totalBytes()).isZero();
+		assertThat(stats.expirations()).isEqualTo(2);
+		assertThat(stats.misses()).isEqualTo(1);
+	}
+
+	@Test
+	void reservationsCountAgainstTheBudget() {
+		ExportResultCache cache = new ExportResultCache(100, TTL, released::add);
+		ExportResult stored = result(50);
+		cache.put("stored", stored);
+
+		ExportResultCache.Reservation first = cache.reserve();
+		first.grow(70); // descarta "stored" para apartar el espacio
+		ExportResultCache.Reservation second = cache.reserve();
+
+		assertThatThrownBy(() -> second.grow(40)).isInstanceOf(IllegalStateException.class);
+		assertThat(released).containsExactly(stored);
+		assertThat(cache.stats().reservedBytes()).isEqualTo(70);
+
+		ExportResult written = result(65);
+		first.commit("written", written);
+		second.close();
+
+		assertThat(cache.get("written")).isSameAs(written);
+		ExportResultCache.Stats stats = cache.stats();
+		assertThat(stats.reservedBytes()).isZero();
+		// Un resultado en memoria conserva todo el espacio reservado
+		assertThat(stats.totalBytes()).isEqualTo(70);
+		assertThat(stats.heapBytes()).isEqualTo(70);
+	}
+
+	@Test
+	void fileBackedCommitReleasesUnusedReservation() {
+		ExportResultCache cache = new ExportResultCache(100, TTL, released::add);
+		ExportResultCache.Reservation reservation = cache.reserve();
+		reservation.grow(80);
+
+		reservation.commit("file", ExportResult.ofFile(Path.of("export-test.tmp"), 30, "datos.csv", "text/csv"));
+
+		ExportResultCache.Stats stats = cache.stats();
+		assertThat(stats.totalBytes()).isEqualTo(30);
+		assertThat(stats.heapBytes()).isZero();
+		assertThat(stats.reservedBytes()).isZero();
+	}
+
+	@Test
+	void commitThatNoLongerFitsIsRejectedWithoutEvicting() {
+		ExportResultCache cache = new ExportResultCache(100, TTL, released::add);
+		ExportResult other = result(40);
+		ExportResultCache.Reservation reservation = cache.reserve();
+		reservation.grow(40);
+		cache.put("other", other);
+		ExportResultCache.Reservation pending = cache.reserve();
+		pending.grow(20);
+
+		ExportResult tooLarge = ExportResult.ofFile(Path.of("export-test.tmp"), 90, "datos.csv", "text/csv");
+		assertThatThrownBy(() -> reservation.commit("big", tooLarge)).isInstanceOf(IllegalStateException.class);
+
+		assertThat(cache.get("other")).isSameAs(other);
+		assertThat(released).containsExactly(tooLarge);
+		assertThat(cache.stats().reservedBytes()).isEqualTo(20);
+	}
+
+	private static ExportResult result(int size) {
+		return ExportResult.ofChunks(List.of(new byte[size]), size, "datos.csv", "text/csv");
+	}
+}
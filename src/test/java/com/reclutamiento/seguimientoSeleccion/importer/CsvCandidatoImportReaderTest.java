@@ -0,0 +1,80 @@
+package com.reclutamiento.seguimientoSeleccion.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvCandidatoImportReaderTest {
+
+	@Test
+	void readsQuotedValuesWithSeparatorsEscapedQuotesAndLineBreaks() throws IOException {
+		String csv = "nombre,ciudad,email\r\n"
+				+ "\"Pérez, Ana\",\"Bogotá \"\"D.C.\"\"\",ana@correo.com\r\n"
+				+ "\"Luis\nGómez\",Cali,luis@correo.com\r\n"
+				+ "Eva,Lima,eva@correo.com\r\n";
+
+		List<Row> rows = read(csv);
+
+		assertThat(rows).extracting(Row::line).containsExactly(2, 3, 5);
+		assertThat(rows.get(0).node().get("nombre").asText()).isEqualTo("Pérez, Ana");
+		assertThat(rows.get(0).node().get("ciudadResidencia").asText()).isEqualTo("Bogotá \"D.C.\"");
+		assertThat(rows.get(1).node().get("nombre").asText()).isEqualTo("Luis\nGómez");
+		assertThat(rows.get(2).node().get("email").asText()).isEqualTo("eva@correo.com");
+	}
+
+	@Test
+	void detectsSemicolonSeparatorFromHeaders() throws IOException {
+		String csv = "\uFEFFNombre;Ciudad;Correo\n"
+				+ "Ana;Bogotá, D.C.;ana@correo.com\n";
+
+		List<Row> rows = read(csv);
+
+		assertThat(rows).hasSize(1);
+		assertThat(rows.get(0).node().get("nombre").asText()).isEqualTo("Ana");
+		assertThat(rows.get(0).node().get("ciudadResidencia").asText()).isEqualTo("Bogotá, D.C.");
+		assertThat(rows.get(0).node().get("email").asText()).isEqualTo("ana@correo.com");
+	}
+
+	@Test
+	void detectsCommaSeparatorFromHeaders() throws IOException {
+		String csv = "nombre,ciudad,email\n"
+				+ "Ana;B,Cali,ana@correo.com\n";
+
+		List<Row> rows = read(csv);
+
+		assertThat(rows.get(0).node().get("nombre").asText()).isEqualTo("Ana;B");
+		assertThat(rows.get(0).node().get("ciudadResidencia").asText()).isEqualTo("Cali");
+	}
+
+	@Test
+	void skipsBlankLines() throws IOException {
+		List<Row> rows = read("nombre,email\nAna,ana@correo.com\n\nEva,eva@correo.com\n\n");
+
+		assertThat(rows).extracting(Row::line).containsExactly(2, 4);
+	}
+
+	@Test
+	void rejectsUnclosedQuotes() {
+		assertThatThrownBy(() -> read("nombre,email\n\"Ana,ana@correo.com\n"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("línea 2");
+	}
+
+	private static List<Row> read(String csv) throws IOException {
+		List<Row> rows = new ArrayList<>();
+		new CsvCandidatoImportReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))
+				.read((node, line) -> rows.add(new Row(node, line)));
+		return rows;
+	}
+
+	private record Row(JsonNode node, int line) {
+	}
+}
@@ -0,0 +1,86 @@
+package com.reclutamiento.seguimientoSeleccion.repository;
+
+import com.reclutamiento.seguimientoSeleccion.model.Candidato;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.invocation.Invocation;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+
+class CandidatoSpecificationsTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = {"2024-02-29", "2025-02-28", "2025-03-01", "2025-12-31"})
+	void ageRangeMatchesCompletedYearsOnEveryBirthDate(String date) {
+		LocalDate today = LocalDate.parse(date);
+		assertMatchesAges(CandidatoSpecifications.edadEntre(18, 30, today), today, 18, 30);
+		assertMatchesAges(CandidatoSpecifications.edadEntre(25, null, today), today, 25, Integer.MAX_VALUE);
+		assertMatchesAges(CandidatoSpecifications.edadEntre(null, 40, today), today, 0, 40);
+	}
+
+	@Test
+	void ageBoundariesFallOnBirthdays() {
+		LocalDate today = LocalDate.of(2025, 6, 15);
+
+		DateRange range = bounds(CandidatoSpecifications.edadEntre(18, 18, today));
+
+		// Cumple 18 hoy; quien cumple 19 mañana aún tiene 18
+		assertThat(range.from()).isEqualTo(LocalDate.of(2006, 6, 16));
+		assertThat(range.to()).isEqualTo(LocalDate.of(2007, 6, 15));
+	}
+
+	private static void assertMatchesAges(Specification<Candidato> spec, LocalDate today, int min, int max) {
+		DateRange range = bounds(spec);
+		for (LocalDate birth = today.minusYears(45); !birth.isAfter(today); birth = birth.plusDays(1)) {
+			int age = Period.between(birth, today).getYears();
+			assertThat(range.contains(birth))
+					.as("nacido el %s, con %d años al %s", birth, age, today)
+					.isEqualTo(age >= min && age <= max);
+		}
+	}
+
+	/**
+	 * Evalúa la especificación con un {@link CriteriaBuilder} simulado y devuelve el rango de fechas de
+	 * nacimiento que compara.
+	 */
+	@SuppressWarnings("unchecked")
+	private static DateRange bounds(Specification<Candidato> spec) {
+		Root<Candidato> root = mock(Root.class);
+		CriteriaBuilder cb = mock(CriteriaBuilder.class);
+
+		spec.toPredicate(root, mock(CriteriaQuery.class), cb);
+
+		verify(root).get("fechaNacimiento");
+		Collection<Invocation> invocations = mockingDetails(cb).getInvocations();
+		assertThat(invocations).hasSize(1);
+		Invocation call = invocations.iterator().next();
+		return switch (call.getMethod().getName()) {
+			case "between" -> new DateRange(call.getArgument(1), call.getArgument(2));
+			case "greaterThanOrEqualTo" -> new DateRange(call.getArgument(1), null);
+			case "lessThanOrEqualTo" -> new DateRange(null, call.getArgument(1));
+			default -> throw new AssertionError("Comparación inesperada: " + call.getMethod());
+		};
+	}
+
+	/**
+	 * Rango de fechas inclusive; un extremo {@code null} no tiene límite.
+	 */
+	private record DateRange(LocalDate from, LocalDate to) {
+
+		boolean contains(LocalDate date) {
+			return (from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to));
+		}
+	}
+}
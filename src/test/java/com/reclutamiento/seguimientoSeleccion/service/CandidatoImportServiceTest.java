@@ -0,0 +1,138 @@
+package com.reclutamiento.seguimientoSeleccion.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reclutamiento.seguimientoSeleccion.config.CandidatoImportProperties;
+import com.reclutamiento.seguimientoSeleccion.dto.CandidatoImportResultDTO;
+import com.reclutamiento.seguimientoSeleccion.dto.ImportRowError;
+import com.reclutamiento.seguimientoSeleccion.importer.CsvCandidatoImportReader;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CandidatoImportServiceTest {
+
+	private static final String HEADERS = "nombre,email,telefono,tipoDocumento,documentoIdentidad,"
+			+ "paisResidencia,ciudadResidencia,fechaNacimiento,genero,nivelEducativo\n";
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private final FakeJdbcTemplate jdbcTemplate = new FakeJdbcTemplate();
+
+	@Test
+	void countsRowsSkippedByOnConflictAsDuplicates() throws IOException {
+		String csv = HEADERS
+				+ row("Ana Perez", "ana@correo.com", "10000001")
+				+ row("Luis Gomez", "luis@correo.com", "10000002")
+				+ row("Ana Repetida", "ana@correo.com", "10000003")
+				+ row("Eva Ruiz", "eva@correo.com", "10000004");
+
+		CandidatoImportResultDTO result = service(2, 100).importar(reader(csv));
+
+		assertThat(result.getTotalRows()).isEqualTo(4);
+		assertThat(result.getImported()).isEqualTo(3);
+		assertThat(result.getDuplicates()).isEqualTo(1);
+		assertThat(result.getFailed()).isZero();
+		assertThat(result.getErrors()).extracting(ImportRowError::row).containsExactly(4);
+		assertThat(jdbcTemplate.batchSizes).containsExactly(2, 2);
+	}
+
+	@Test
+	void capsDetailedErrorsButCountsEveryRejectedRow() throws IOException {
+		StringBuilder csv = new StringBuilder(HEADERS);
+		for (int i = 0; i < 5; i++) {
+			csv.append(row("Sin Correo", "no-es-correo", "2000000" + i));
+		}
+		csv.append(row("Eva Ruiz", "eva@correo.com", "10000004"));
+
+		CandidatoImportResultDTO result = service(500, 3).importar(reader(csv.toString()));
+
+		assertThat(result.getTotalRows()).isEqualTo(6);
+		assertThat(result.getFailed()).isEqualTo(5);
+		assertThat(result.getImported()).isEqualTo(1);
+		assertThat(result.getErrors()).hasSize(3);
+		assertThat(result.getErrors()).extracting(ImportRowError::field).containsOnly("email");
+		assertThat(result.isErrorsTruncated()).isTrue();
+	}
+
+	@Test
+	void reportsUnparseableValuesWithTheirField() throws IOException {
+		String csv = HEADERS + row("Ana Perez", "ana@correo.com", "10000001").replace("1990-05-01", "ayer");
+
+		CandidatoImportResultDTO result = service(500, 100).importar(reader(csv));
+
+		assertThat(result.getFailed()).isEqualTo(1);
+		assertThat(result.getErrors()).singleElement()
+				.satisfies(error -> assertThat(error.field()).isEqualTo("fechaNacimiento"));
+		assertThat(jdbcTemplate.batchSizes).isEmpty();
+	}
+
+	private CandidatoImportService service(int batchSize, int maxErrors) {
+		CandidatoImportProperties properties = new CandidatoImportProperties();
+		properties.setBatchSize(batchSize);
+		properties.setMaxErrors(maxErrors);
+		return new CandidatoImportService(jdbcTemplate, new NoOpTransactionManager(), objectMapper,
+				Validation.buildDefaultValidatorFactory().getValidator(), () -> Optional.of("sistema"), properties);
+	}
+
+	private static CsvCandidatoImportReader reader(String csv) {
+		return new CsvCandidatoImportReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static String row(String nombre, String email, String documento) {
+		return String.join(",", nombre, email, "3001234567", "CC", documento,
+				"Colombia", "Bogota", "1990-05-01", "FEMENINO", "UNIVERSITARIO") + "\n";
+	}
+
+	/**
+	 * Simula {@code ON CONFLICT DO NOTHING}: un correo ya insertado devuelve un conteo de 0.
+	 */
+	private static final class FakeJdbcTemplate extends JdbcTemplate {
+
+		private final Set<Object> emails = new HashSet<>();
+		private final List<Integer> batchSizes = new ArrayList<>();
+
+		@Override
+		public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+			batchSizes.add(batchArgs.size());
+			int[] counts = new int[batchArgs.size()];
+			for (int i = 0; i < counts.length; i++) {
+				counts[i] = emails.add(batchArgs.get(i)[1]) ? 1 : 0;
+			}
+			return counts;
+		}
+	}
+
+	private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.reclutamiento.seguimientoSeleccion.service;
+
+import com.reclutamiento.seguimientoSeleccion.config.ExportSchedulerProperties;
+import com.reclutamiento.seguimientoSeleccion.dto.ErrorResponse;
+import com.reclutamiento.seguimientoSeleccion.enums.ExportFormat;
+import com.reclutamiento.seguimientoSeleccion.enums.ExportJobStatus;
+import com.reclutamiento.seguimientoSeleccion.exception.ExportQueueFullException;
+import com.reclutamiento.seguimientoSeleccion.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class ExportSchedulerTest {
+
+	/**
+	 * Ejecutor manual: las tareas se ejecutan cuando el test lo indica.
+	 */
+	private final Deque<Runnable> pending = new ArrayDeque<>();
+	private final Executor executor = pending::add;
+	private final List<Long> executed = new ArrayList<>();
+	private final Consumer<ExportJob> task = job -> executed.add(job.getTotalRows());
+
+	@Test
+	void runsQueuedJobsSmallestFirstAndInArrivalOrderOnTies() {
+		ExportScheduler scheduler = scheduler(1, 10);
+		ExportJob running = scheduler.submit(ExportFormat.EXCEL, 1_000, task);
+		ExportJob large = scheduler.submit(ExportFormat.EXCEL, 500, task);
+		ExportJob small = scheduler.submit(ExportFormat.EXCEL, 10, task);
+		ExportJob smallLater = scheduler.submit(ExportFormat.EXCEL, 10, task);
+
+		assertThat(scheduler.getRunningCount(ExportFormat.EXCEL)).isEqualTo(1);
+		assertThat(scheduler.getQueuedCount(ExportFormat.EXCEL)).isEqualTo(3);
+		assertThat(scheduler.getQueuePosition(small)).isEqualTo(1);
+		assertThat(scheduler.getQueuePosition(smallLater)).isEqualTo(2);
+		assertThat(scheduler.getQueuePosition(large)).isEqualTo(3);
+		assertThat(scheduler.getQueuePosition(running)).isZero();
+
+		runAll();
+
+		assertThat(executed).containsExactly(1_000L, 10L, 10L, 500L);
+		assertThat(List.of(running, large, small, smallLater))
+				.extracting(ExportJob::getStatus)
+				.containsOnly(ExportJobStatus.DONE);
+		assertThat(scheduler.getRunningCount(ExportFormat.EXCEL)).isZero();
+	}
+
+	@Test
+	void lanesOfOtherFormatsAreNotBlocked() {
+		ExportScheduler scheduler = scheduler(1, 0);
+		scheduler.submit(ExportFormat.EXCEL, 100_000, task);
+
+		scheduler.submit(ExportFormat.CSV, 10, task);
+
+		assertThat(scheduler.getRunningCount(ExportFormat.CSV)).isEqualTo(1);
+		assertThat(pending).hasSize(2);
+	}
+
+	@Test
+	void rejectsWhenTheFormatQueueIsFull() {
+		ExportScheduler scheduler = scheduler(1, 1);
+		scheduler.submit(ExportFormat.EXCEL, 100, task);
+		scheduler.submit(ExportFormat.EXCEL, 100, task);
+
+		ExportQueueFullException e = catchThrowableOfType(
+				() -> scheduler.submit(ExportFormat.EXCEL, 1, task), ExportQueueFullException.class);
+
+		assertThat(e.getFormat()).isEqualTo(ExportFormat.EXCEL);
+		assertThat(e.getRetryAfterSeconds()).isEqualTo(45);
+		assertThat(scheduler.getQueuedCount(ExportFormat.EXCEL)).isEqualTo(1);
+	}
+
+	@Test
+	void cancellingAQueuedJobFreesItsPlace() {
+		ExportScheduler scheduler = scheduler(1, 1);
+		scheduler.submit(ExportFormat.EXCEL, 100, task);
+		ExportJob queued = scheduler.submit(ExportFormat.EXCEL, 100, task);
+
+		scheduler.cancel(queued.getId());
+		ExportJob next = scheduler.submit(ExportFormat.EXCEL, 200, task);
+		runAll();
+
+		assertThat(queued.getStatus()).isEqualTo(ExportJobStatus.CANCELLED);
+		assertThat(next.getStatus()).isEqualTo(ExportJobStatus.DONE);
+		assertThat(executed).containsExactly(100L, 200L);
+	}
+
+	@Test
+	void queueFullIsAnsweredWith429AndRetryAfter() {
+		ResourceBundleMessageSource messages = new ResourceBundleMessageSource();
+		messages.setBasename("messages");
+		messages.setDefaultEncoding("ISO-8859-1");
+		GlobalExceptionHandler handler = new GlobalExceptionHandler(messages);
+
+		ResponseEntity<ErrorResponse> response = handler.handleExportQueueFull(
+				new ExportQueueFullException(ExportFormat.PDF, 45),
+				new ServletWebRequest(new MockHttpServletRequest("POST", "/api/candidatos/export/async")));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("45");
+		assertThat(response.getBody()).isNotNull();
+		assertThat(response.getBody().getStatus()).isEqualTo(429);
+	}
+
+	private ExportScheduler scheduler(int maxConcurrentExcel, int queueCapacity) {
+		ExportSchedulerProperties properties = new ExportSchedulerProperties();
+		properties.getMaxConcurrent().setExcel(maxConcurrentExcel);
+		properties.setQueueCapacity(queueCapacity);
+		properties.setRetryAfter(Duration.ofSeconds(45));
+		return new ExportScheduler(properties, executor);
+	}
+
+	private void runAll() {
+		Runnable next;
+		while ((next = pending.poll()) != null) {
+			next.run();
+		}
+	}
+}